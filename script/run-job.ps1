@@ -11,7 +11,8 @@ param(
         "masterImportJob",
         "format1ExportJob",
         "format2ExportJob",
-        "complexWorkflowJob"
+        "complexWorkflowJob",
+        "partitionedImportJob"
     ),
     [switch]$NoPause
 )
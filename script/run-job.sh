@@ -44,6 +44,7 @@ function show_help() {
     echo "  chunkProcessingJob      数据校验 + 清理流程"
     echo "  complexWorkflowJob      多步骤 + 邮件通知"
     echo "  masterImportJob         串行执行多个格式导入"
+    echo "  partitionedImportJob    单文件分区并行导入"
     echo "  format1ImportJob        格式1文件导入"
     echo "  format2ImportJob        格式2文件导入"
     echo "  format3ImportJob        格式3文件导入"
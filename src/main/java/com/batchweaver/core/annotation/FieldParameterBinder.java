@@ -0,0 +1,28 @@
+package com.batchweaver.core.annotation;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+/**
+ * 编译期生成的 JDBC 参数绑定（{@code <Entity>_ParameterBinder}）
+ * <p>
+ * 由 {@link FileColumnProcessor} 为每个 @FileColumn 实体生成：参数名到字段序号的解析在预编译 SQL 时调用一次，
+ * 绑定每一行时按字段序号直接调用 getter 和类型化的 setInt / setString / setTimestamp 等方法，不使用反射。
+ * 运行时由 {@code PreparedStatementBinder} 自动使用。
+ *
+ * @param <T> 实体类型
+ */
+public interface FieldParameterBinder<T> {
+
+    /**
+     * 参数名对应的字段序号：先按字段名精确匹配，再按 {@link FileColumnNames} 候选名（不区分大小写）匹配
+     *
+     * @return 字段序号，没有匹配的字段时返回 -1
+     */
+    int fieldIndex(String parameter);
+
+    /**
+     * 把实体的第 field 个字段绑定到第 index 个位置参数
+     */
+    void bind(PreparedStatement ps, int index, T item, int field) throws SQLException;
+}
@@ -13,7 +13,9 @@ import java.lang.annotation.Target;
  * <p>
  * 用于标记实体类字段与文件列的映射关系，支持：
  * - 列索引指定
+ * - 定长文件的字节起始位置与长度
  * - 数据清洗（trim、大小写转换、默认值）
+ * - 低基数字符串列去重（dedupe）
  * - 自定义类型转换器
  * <p>
  * 示例：
@@ -26,6 +28,10 @@ import java.lang.annotation.Target;
  *
  * {@code @FileColumn(index = 2, defaultValue = "unknown@example.com")}
  * private String email;
+ *
+ * // 定长文件：第 0 列占第 0-9 字节
+ * {@code @FileColumn(index = 0, start = 0, length = 10)}
+ * private String accountNo;
  * </pre>
  */
 @Target(ElementType.FIELD)
@@ -37,6 +43,16 @@ public @interface FileColumn {
      */
     int index();
 
+    /**
+     * 定长文件中的字节起始位置（从 0 开始，-1 表示非定长列）
+     */
+    int start() default -1;
+
+    /**
+     * 定长文件中的字节长度（-1 表示非定长列）
+     */
+    int length() default -1;
+
     /**
      * 列名称（用于日志和错误提示）
      */
@@ -57,6 +73,11 @@ public @interface FileColumn {
      */
     boolean toLowerCase() default false;
 
+    /**
+     * 是否对字符串值去重（适用于状态码、机构号、币种等低基数列，重复值共享同一个 String 实例）
+     */
+    boolean dedupe() default false;
+
     /**
      * 默认值（当字段为空时使用）
      */
@@ -0,0 +1,50 @@
+package com.batchweaver.core.annotation;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * @FileColumn 字段与数据库列的名称匹配规则
+ * <p>
+ * 依次尝试：注解的 name 属性、字段名、字段名的下划线形式（如 birthDate → birth_date，与 BeanPropertyRowMapper 一致），
+ * 均为小写，调用方按不区分大小写的方式与列名比较。
+ */
+public final class FileColumnNames {
+
+    private FileColumnNames() {
+    }
+
+    /**
+     * 字段的候选列名（小写，按优先级排列，已去重）
+     */
+    public static String[] candidates(Field field) {
+        FileColumn annotation = field.getAnnotation(FileColumn.class);
+        List<String> candidates = new ArrayList<>(3);
+        if (annotation != null && !annotation.name().isEmpty()) {
+            candidates.add(annotation.name().toLowerCase(Locale.ROOT));
+        }
+        String name = field.getName().toLowerCase(Locale.ROOT);
+        if (!candidates.contains(name)) {
+            candidates.add(name);
+        }
+        String underscored = underscore(field.getName());
+        if (!candidates.contains(underscored)) {
+            candidates.add(underscored);
+        }
+        return candidates.toArray(new String[0]);
+    }
+
+    private static String underscore(String name) {
+        StringBuilder result = new StringBuilder(name.length() + 4);
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            if (Character.isUpperCase(c) && i > 0) {
+                result.append('_');
+            }
+            result.append(Character.toLowerCase(c));
+        }
+        return result.toString();
+    }
+}
@@ -0,0 +1,726 @@
+package com.batchweaver.core.annotation;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.PrimitiveType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * {@link FileColumn} 编译期注解处理器
+ * <p>
+ * 为每个带 @FileColumn 字段的实体类生成三个无反射的类（与实体同包，类名见 {@link GeneratedFileColumnClasses}）：
+ * <ul>
+ *   <li>{@code <Entity>_FieldSetMapper} - FieldSetMapper，语义与 {@code MappingPlan} 一致
+ *       （int / long 字段配合 IntConverter / LongConverter 时不装箱）</li>
+ *   <li>{@code <Entity>_FieldExtractor} - FieldExtractor，语义与 {@code AnnotationFieldExtractor} 一致</li>
+ *   <li>{@code <Entity>_ParameterBinder} - {@link FieldParameterBinder}，JDBC 位置参数的类型化绑定，
+ *       参数名匹配规则与 {@link FileColumnNames} 一致</li>
+ * </ul>
+ * 私有字段通过 getter / setter 访问（显式声明或 Lombok {@code @Data / @Getter / @Setter} 生成）；
+ * record 和只有全参构造器的类（Lombok {@code @AllArgsConstructor / @Value}）按参数顺序读取各列后直接调用构造器。
+ * 某个实体不满足生成条件时（字段类型不支持、缺少访问器、没有无参构造器等）只输出警告并跳过对应的类，
+ * 运行时自动退化为反射实现。
+ * <p>
+ * 处理器在 Maven 的 generate-sources 阶段单独编译（见 pom.xml），并通过
+ * META-INF/services 注册，在主编译阶段与 Lombok 一起运行。
+ */
+@SupportedAnnotationTypes(FileColumnProcessor.FILE_COLUMN)
+public class FileColumnProcessor extends AbstractProcessor {
+
+    static final String FILE_COLUMN = "com.batchweaver.core.annotation.FileColumn";
+
+    private static final String NO_OP_CONVERTER = "com.batchweaver.core.converter.NoOpConverter";
+    private static final String RANGE_CONVERTER = "com.batchweaver.core.converter.RangeConverter";
+    private static final String INT_CONVERTER = "com.batchweaver.core.converter.IntConverter";
+    private static final String LONG_CONVERTER = "com.batchweaver.core.converter.LongConverter";
+    private static final String SUPPORT = "com.batchweaver.core.reader.MapperSupport";
+    private static final String DEFAULT_DATE_FORMAT = "yyyyMMdd";
+
+    /**
+     * 引用类型对应的 setter、NULL 的 SQL 类型和绑定表达式（value 为非空字段值）
+     */
+    private static final Map<String, String[]> TYPED_SETTERS = Map.ofEntries(
+            Map.entry("java.lang.String", new String[]{"setString", "VARCHAR", "value"}),
+            Map.entry("java.lang.Integer", new String[]{"setInt", "INTEGER", "value"}),
+            Map.entry("java.lang.Long", new String[]{"setLong", "BIGINT", "value"}),
+            Map.entry("java.lang.Double", new String[]{"setDouble", "DOUBLE", "value"}),
+            Map.entry("java.lang.Boolean", new String[]{"setBoolean", "BOOLEAN", "value"}),
+            Map.entry("java.math.BigDecimal", new String[]{"setBigDecimal", "DECIMAL", "value"}),
+            Map.entry("java.sql.Date", new String[]{"setDate", "DATE", "value"}),
+            Map.entry("java.sql.Timestamp", new String[]{"setTimestamp", "TIMESTAMP", "value"}),
+            Map.entry("java.util.Date", new String[]{"setTimestamp", "TIMESTAMP", "new java.sql.Timestamp(value.getTime())"}),
+            Map.entry("java.time.LocalDate", new String[]{"setDate", "DATE", "java.sql.Date.valueOf(value)"}),
+            Map.entry("java.time.LocalDateTime", new String[]{"setTimestamp", "TIMESTAMP", "java.sql.Timestamp.valueOf(value)"})
+    );
+
+    private static final Set<String> LOMBOK_GETTERS = Set.of("lombok.Data", "lombok.Getter", "lombok.Value");
+    private static final Set<String> LOMBOK_SETTERS = Set.of("lombok.Data", "lombok.Setter");
+    private static final Set<String> LOMBOK_NO_ARGS = Set.of("lombok.NoArgsConstructor");
+    private static final Set<String> LOMBOK_ALL_ARGS = Set.of("lombok.AllArgsConstructor", "lombok.Value");
+
+    /**
+     * 内置类型对应的 MapperSupport 读取方法
+     */
+    private static final Map<String, String> READERS = Map.of(
+            "java.lang.String", "readString",
+            "java.lang.Integer", "readInteger",
+            "java.lang.Long", "readLong",
+            "java.lang.Double", "readDouble",
+            "java.math.BigDecimal", "readBigDecimal",
+            "java.lang.Boolean", "readBoolean",
+            "java.util.Date", "readDate"
+    );
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        Set<TypeElement> owners = new LinkedHashSet<>();
+        for (TypeElement annotation : annotations) {
+            for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+                if (element.getKind() == ElementKind.FIELD) {
+                    owners.add((TypeElement) element.getEnclosingElement());
+                }
+            }
+        }
+        for (TypeElement owner : owners) {
+            generate(owner);
+        }
+        // 不独占注解，其他处理器（Lombok）照常运行
+        return false;
+    }
+
+    // ============================================================================
+    // 实体解析
+    // ============================================================================
+
+    private void generate(TypeElement owner) {
+        if (!isAccessible(owner) || !owner.getTypeParameters().isEmpty()
+                || (owner.getKind() != ElementKind.CLASS && owner.getKind() != ElementKind.RECORD)) {
+            warn(owner, "not an accessible non-generic class");
+            return;
+        }
+        List<Column> columns = new ArrayList<>();
+        for (VariableElement field : ElementFilter.fieldsIn(owner.getEnclosedElements())) {
+            AnnotationMirror mirror = fileColumn(field);
+            if (mirror != null) {
+                columns.add(new Column(owner, field, mirror));
+            }
+        }
+        // 参数名按声明顺序匹配（与运行时 PreparedStatementBinder 一致）
+        List<Column> declared = List.copyOf(columns);
+        columns.sort(Comparator.comparingInt(column -> column.index));
+
+        List<VariableElement> constructorFields = constructorFields(owner);
+        String mapperProblem = mapperProblem(owner, columns, constructorFields);
+        if (mapperProblem == null) {
+            write(owner, GeneratedFileColumnClasses.MAPPER_SUFFIX, mapperSource(owner, columns, constructorFields));
+        } else {
+            warn(owner, "FieldSetMapper not generated: " + mapperProblem);
+        }
+
+        String getterProblem = getterProblem(columns);
+        if (getterProblem == null) {
+            write(owner, GeneratedFileColumnClasses.EXTRACTOR_SUFFIX, extractorSource(owner, columns));
+            write(owner, GeneratedFileColumnClasses.PARAMETER_BINDER_SUFFIX, binderSource(owner, declared));
+        } else {
+            warn(owner, "FieldExtractor / ParameterBinder not generated: " + getterProblem);
+        }
+    }
+
+    private String mapperProblem(TypeElement owner, List<Column> columns, List<VariableElement> constructorFields) {
+        if (owner.getModifiers().contains(Modifier.ABSTRACT)) {
+            return "abstract class";
+        }
+        if (constructorFields == null && !hasNoArgConstructor(owner)) {
+            return "no accessible no-arg or all-args constructor";
+        }
+        for (Column column : columns) {
+            if (column.field.getModifiers().contains(Modifier.STATIC)) {
+                return "unsupported field modifiers: " + column.name;
+            }
+            if (column.converter == null && column.reader() == null) {
+                return "unsupported field type: " + column.type + " " + column.name;
+            }
+            if (constructorFields != null) {
+                continue;
+            }
+            if (column.field.getModifiers().contains(Modifier.FINAL)) {
+                return "unsupported field modifiers: " + column.name;
+            }
+            if (column.setter == null) {
+                return "no setter for field: " + column.name;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 构造器模式的参数字段（按参数顺序），规则与运行时 {@code ConstructorTarget} 一致
+     *
+     * @return record 组件字段或全参构造器对应的实例字段；按字段写入或没有可用构造器时返回 null
+     */
+    private List<VariableElement> constructorFields(TypeElement owner) {
+        List<VariableElement> fields = new ArrayList<>();
+        for (VariableElement field : ElementFilter.fieldsIn(owner.getEnclosedElements())) {
+            if (!field.getModifiers().contains(Modifier.STATIC)) {
+                fields.add(field);
+            }
+        }
+        if (owner.getKind() == ElementKind.RECORD) {
+            return fields;
+        }
+        if (hasNoArgConstructor(owner)) {
+            return null;
+        }
+        if (hasAnnotation(owner, LOMBOK_ALL_ARGS)) {
+            return fields;
+        }
+        for (ExecutableElement constructor : ElementFilter.constructorsIn(owner.getEnclosedElements())) {
+            if (constructor.getModifiers().contains(Modifier.PRIVATE) || constructor.getParameters().size() != fields.size()) {
+                continue;
+            }
+            boolean matches = true;
+            for (int i = 0; i < fields.size() && matches; i++) {
+                matches = processingEnv.getTypeUtils().isSameType(
+                        processingEnv.getTypeUtils().erasure(constructor.getParameters().get(i).asType()),
+                        processingEnv.getTypeUtils().erasure(fields.get(i).asType()));
+            }
+            if (matches) {
+                return fields;
+            }
+        }
+        return null;
+    }
+
+    private String getterProblem(List<Column> columns) {
+        for (Column column : columns) {
+            if (column.field.getModifiers().contains(Modifier.STATIC)) {
+                return "unsupported field modifiers: " + column.name;
+            }
+            if (column.getter == null) {
+                return "no getter for field: " + column.name;
+            }
+        }
+        return null;
+    }
+
+    private boolean hasNoArgConstructor(TypeElement owner) {
+        List<ExecutableElement> constructors = ElementFilter.constructorsIn(owner.getEnclosedElements());
+        if (hasAnnotation(owner, LOMBOK_NO_ARGS)) {
+            return true;
+        }
+        // 只有编译器生成的默认构造器时，constructorsIn 也会返回它
+        for (ExecutableElement constructor : constructors) {
+            if (constructor.getParameters().isEmpty() && !constructor.getModifiers().contains(Modifier.PRIVATE)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean isAccessible(TypeElement type) {
+        Element current = type;
+        while (current instanceof TypeElement element) {
+            if (element.getModifiers().contains(Modifier.PRIVATE)) {
+                return false;
+            }
+            if (element.getNestingKind() == NestingKind.MEMBER && !element.getModifiers().contains(Modifier.STATIC)) {
+                return false;
+            }
+            if (element.getNestingKind() == NestingKind.LOCAL || element.getNestingKind() == NestingKind.ANONYMOUS) {
+                return false;
+            }
+            current = element.getEnclosingElement();
+        }
+        return true;
+    }
+
+    // ============================================================================
+    // 代码生成
+    // ============================================================================
+
+    private String mapperSource(TypeElement owner, List<Column> columns, List<VariableElement> constructorFields) {
+        String entity = owner.getQualifiedName().toString();
+        StringBuilder fields = new StringBuilder();
+        StringBuilder body = new StringBuilder();
+        Map<VariableElement, String> reads = new HashMap<>();
+        for (Column column : columns) {
+            String read;
+            String args = "fieldSet, " + column.index + ", " + column.flags() + ", " + literal(column.defaultValue);
+            if (column.converter != null) {
+                String converter = "converter" + column.index;
+                if (isConverter(column.converter, RANGE_CONVERTER)) {
+                    fields.append("    private final ").append(column.converter).append(' ').append(converter)
+                            .append(" = new ").append(column.converter).append("();\n");
+                } else {
+                    // 普通转换器适配为区间转换器
+                    fields.append("    private final ").append(RANGE_CONVERTER).append("<?> ").append(converter)
+                            .append(" = ").append(RANGE_CONVERTER).append(".adapt(new ").append(column.converter).append("());\n");
+                }
+                if (column.type.getKind() == TypeKind.INT && isConverter(column.converter, INT_CONVERTER)) {
+                    read = SUPPORT + ".convertInt(" + args + ", " + converter + ")";
+                } else if (column.type.getKind() == TypeKind.LONG && isConverter(column.converter, LONG_CONVERTER)) {
+                    read = SUPPORT + ".convertLong(" + args + ", " + converter + ")";
+                } else {
+                    read = "(" + column.boxedType() + ") " + SUPPORT + ".convert(" + args + ", " + converter + ")";
+                }
+            } else if ("readString".equals(column.reader()) && column.dedupe) {
+                String deduplicator = "deduplicator" + column.index;
+                fields.append("    private final com.batchweaver.core.reader.StringDeduplicator ").append(deduplicator)
+                        .append(" = new com.batchweaver.core.reader.StringDeduplicator();\n");
+                read = SUPPORT + ".readString(" + args + ", " + deduplicator + ")";
+            } else if ("readDate".equals(column.reader())) {
+                String format = "format" + column.index;
+                String pattern = column.format.isEmpty() ? DEFAULT_DATE_FORMAT : column.format;
+                fields.append("    private final java.lang.ThreadLocal<java.text.SimpleDateFormat> ").append(format)
+                        .append(" = java.lang.ThreadLocal.withInitial(() -> new java.text.SimpleDateFormat(")
+                        .append(literal(pattern)).append("));\n");
+                read = SUPPORT + ".readDate(" + args + ", " + format + ")";
+            } else {
+                read = SUPPORT + "." + column.reader() + "(" + args + ")";
+            }
+            reads.put(column.field, read);
+        }
+        if (constructorFields == null) {
+            body.append("        ").append(entity).append(" item = new ").append(entity).append("();\n");
+            body.append("        try {\n");
+            for (Column column : columns) {
+                body.append("            ").append(column.write(reads.get(column.field))).append(";\n");
+            }
+        } else {
+            // 构造器模式：按参数顺序读取各列，未标注的参数取默认值
+            body.append("        try {\n");
+            body.append("            return new ").append(entity).append("(");
+            for (int i = 0; i < constructorFields.size(); i++) {
+                VariableElement field = constructorFields.get(i);
+                String read = reads.get(field);
+                body.append(i == 0 ? "\n" : ",\n").append("                    ")
+                        .append(read != null ? read : defaultLiteral(field.asType()));
+            }
+            body.append(");\n");
+        }
+        return header(owner) +
+                "public final class " + generatedName(owner, GeneratedFileColumnClasses.MAPPER_SUFFIX) +
+                " implements org.springframework.batch.item.file.mapping.FieldSetMapper<" + entity + "> {\n\n" +
+                fields + (fields.length() > 0 ? "\n" : "") +
+                "    @Override\n" +
+                "    public " + entity + " mapFieldSet(org.springframework.batch.item.file.transform.FieldSet fieldSet) {\n" +
+                body +
+                "        } catch (java.lang.RuntimeException e) {\n" +
+                "            throw e;\n" +
+                "        } catch (java.lang.Exception e) {\n" +
+                "            throw new java.lang.IllegalArgumentException(e.getMessage(), e);\n" +
+                "        }\n" +
+                (constructorFields == null ? "        return item;\n" : "") +
+                "    }\n" +
+                "}\n";
+    }
+
+    private String extractorSource(TypeElement owner, List<Column> columns) {
+        String entity = owner.getQualifiedName().toString();
+        StringBuilder fields = new StringBuilder();
+        StringBuilder body = new StringBuilder();
+        for (int i = 0; i < columns.size(); i++) {
+            Column column = columns.get(i);
+            String value = "item." + column.read();
+            if (column.type.getKind().isPrimitive()) {
+                body.append("        values[").append(i).append("] = java.lang.String.valueOf(").append(value).append(");\n");
+            } else if (column.isDate() && !column.format.isEmpty()) {
+                String format = "format" + i;
+                fields.append("    private final java.lang.ThreadLocal<java.text.SimpleDateFormat> ").append(format)
+                        .append(" = java.lang.ThreadLocal.withInitial(() -> new java.text.SimpleDateFormat(")
+                        .append(literal(column.format)).append("));\n");
+                body.append("        java.util.Date value").append(i).append(" = ").append(value).append(";\n");
+                body.append("        values[").append(i).append("] = value").append(i).append(" == null ? \"\" : ")
+                        .append(format).append(".get().format(value").append(i).append(");\n");
+            } else {
+                body.append("        values[").append(i).append("] = text(").append(value).append(");\n");
+            }
+        }
+        return header(owner) +
+                "public final class " + generatedName(owner, GeneratedFileColumnClasses.EXTRACTOR_SUFFIX) +
+                " implements org.springframework.batch.item.file.transform.FieldExtractor<" + entity + "> {\n\n" +
+                fields + (fields.length() > 0 ? "\n" : "") +
+                "    @Override\n" +
+                "    public java.lang.Object[] extract(" + entity + " item) {\n" +
+                "        java.lang.Object[] values = new java.lang.Object[" + columns.size() + "];\n" +
+                body +
+                "        return values;\n" +
+                "    }\n\n" +
+                "    private static java.lang.String text(java.lang.Object value) {\n" +
+                "        return value == null ? \"\" : value.toString();\n" +
+                "    }\n" +
+                "}\n";
+    }
+
+    private String binderSource(TypeElement owner, List<Column> columns) {
+        String entity = owner.getQualifiedName().toString();
+        StringBuilder exact = new StringBuilder();
+        StringBuilder candidates = new StringBuilder();
+        StringBuilder bind = new StringBuilder();
+        Set<String> seen = new LinkedHashSet<>();
+        for (int i = 0; i < columns.size(); i++) {
+            Column column = columns.get(i);
+            exact.append("            case ").append(literal(column.name)).append(" -> ").append(i).append(";\n");
+            for (String candidate : column.candidates()) {
+                // 多个字段的候选名相同时取先声明的字段
+                if (seen.add(candidate)) {
+                    candidates.append("                case ").append(literal(candidate)).append(" -> ").append(i).append(";\n");
+                }
+            }
+            bind.append("            case ").append(i).append(" -> ").append(column.bind()).append("\n");
+        }
+        return header(owner) +
+                "public final class " + generatedName(owner, GeneratedFileColumnClasses.PARAMETER_BINDER_SUFFIX) +
+                " implements com.batchweaver.core.annotation.FieldParameterBinder<" + entity + "> {\n\n" +
+                "    @Override\n" +
+                "    public int fieldIndex(java.lang.String parameter) {\n" +
+                "        return switch (parameter) {\n" +
+                exact +
+                "            default -> switch (parameter.toLowerCase(java.util.Locale.ROOT)) {\n" +
+                candidates +
+                "                default -> -1;\n" +
+                "            };\n" +
+                "        };\n" +
+                "    }\n\n" +
+                "    @Override\n" +
+                "    public void bind(java.sql.PreparedStatement ps, int index, " + entity + " item, int field)\n" +
+                "            throws java.sql.SQLException {\n" +
+                "        switch (field) {\n" +
+                bind +
+                "            default -> throw new java.lang.IndexOutOfBoundsException(\"field \" + field);\n" +
+                "        }\n" +
+                "    }\n" +
+                "}\n";
+    }
+
+    private String header(TypeElement owner) {
+        PackageElement pkg = processingEnv.getElementUtils().getPackageOf(owner);
+        String packageLine = pkg.isUnnamed() ? "" : "package " + pkg.getQualifiedName() + ";\n\n";
+        return packageLine +
+                "@javax.annotation.processing.Generated(\"" + FileColumnProcessor.class.getName() + "\")\n";
+    }
+
+    private void write(TypeElement owner, String suffix, String source) {
+        PackageElement pkg = processingEnv.getElementUtils().getPackageOf(owner);
+        String simpleName = generatedName(owner, suffix);
+        String qualifiedName = pkg.isUnnamed() ? simpleName : pkg.getQualifiedName() + "." + simpleName;
+        try (Writer writer = processingEnv.getFiler().createSourceFile(qualifiedName, owner).openWriter()) {
+            writer.write(source);
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "Failed to write " + qualifiedName + ": " + e.getMessage(), owner);
+        }
+    }
+
+    /**
+     * 生成类的简单类名：嵌套类以 _ 连接外部类名，与 {@link GeneratedFileColumnClasses} 的查找规则一致
+     */
+    private String generatedName(TypeElement owner, String suffix) {
+        StringBuilder name = new StringBuilder(owner.getSimpleName());
+        Element enclosing = owner.getEnclosingElement();
+        while (enclosing instanceof TypeElement type) {
+            name.insert(0, type.getSimpleName() + "_");
+            enclosing = type.getEnclosingElement();
+        }
+        return name.append(suffix).toString();
+    }
+
+    // ============================================================================
+    // 辅助方法
+    // ============================================================================
+
+    private AnnotationMirror fileColumn(Element element) {
+        for (AnnotationMirror mirror : element.getAnnotationMirrors()) {
+            if (FILE_COLUMN.equals(((TypeElement) mirror.getAnnotationType().asElement()).getQualifiedName().toString())) {
+                return mirror;
+            }
+        }
+        return null;
+    }
+
+    private boolean isConverter(String converter, String converterInterface) {
+        TypeElement type = processingEnv.getElementUtils().getTypeElement(converter);
+        TypeElement target = processingEnv.getElementUtils().getTypeElement(converterInterface);
+        return type != null && target != null && processingEnv.getTypeUtils().isAssignable(
+                processingEnv.getTypeUtils().erasure(type.asType()), processingEnv.getTypeUtils().erasure(target.asType()));
+    }
+
+    private static boolean hasAnnotation(Element element, Set<String> names) {
+        for (AnnotationMirror mirror : element.getAnnotationMirrors()) {
+            if (names.contains(((TypeElement) mirror.getAnnotationType().asElement()).getQualifiedName().toString())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private String literal(String value) {
+        return value == null || value.isEmpty() ? "null" : processingEnv.getElementUtils().getConstantExpression(value);
+    }
+
+    private static String defaultLiteral(TypeMirror type) {
+        return switch (type.getKind()) {
+            case BOOLEAN -> "false";
+            case LONG -> "0L";
+            case FLOAT -> "0F";
+            case DOUBLE -> "0D";
+            case BYTE -> "(byte) 0";
+            case SHORT -> "(short) 0";
+            case CHAR -> "'\\0'";
+            case INT -> "0";
+            default -> "null";
+        };
+    }
+
+    private void warn(Element element, String message) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING,
+                "@FileColumn code generation skipped for " + element + ": " + message, element);
+    }
+
+    /**
+     * 单个 @FileColumn 字段的编译期模型
+     */
+    private final class Column {
+
+        private final VariableElement field;
+        private final TypeMirror type;
+        private final String name;
+        private final int index;
+        private final boolean trim;
+        private final boolean toUpperCase;
+        private final boolean toLowerCase;
+        private final boolean dedupe;
+        private final String defaultValue;
+        private final String converter;
+        private final String format;
+        private final String columnName;
+        private final String getter;
+        private final String setter;
+
+        Column(TypeElement owner, VariableElement field, AnnotationMirror mirror) {
+            this.field = field;
+            this.type = processingEnv.getTypeUtils().erasure(field.asType());
+            this.name = field.getSimpleName().toString();
+            Map<? extends ExecutableElement, ? extends AnnotationValue> values =
+                    processingEnv.getElementUtils().getElementValuesWithDefaults(mirror);
+            int index = 0;
+            boolean trim = true;
+            boolean toUpperCase = false;
+            boolean toLowerCase = false;
+            boolean dedupe = false;
+            String defaultValue = "";
+            String converter = null;
+            String format = "";
+            String columnName = "";
+            for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : values.entrySet()) {
+                Object value = entry.getValue().getValue();
+                switch (entry.getKey().getSimpleName().toString()) {
+                    case "index" -> index = (Integer) value;
+                    case "trim" -> trim = (Boolean) value;
+                    case "toUpperCase" -> toUpperCase = (Boolean) value;
+                    case "toLowerCase" -> toLowerCase = (Boolean) value;
+                    case "dedupe" -> dedupe = (Boolean) value;
+                    case "defaultValue" -> defaultValue = (String) value;
+                    case "format" -> format = (String) value;
+                    case "name" -> columnName = (String) value;
+                    case "converter" -> {
+                        String converterName = processingEnv.getTypeUtils().erasure((TypeMirror) value).toString();
+                        converter = NO_OP_CONVERTER.equals(converterName) ? null : converterName;
+                    }
+                    default -> {
+                    }
+                }
+            }
+            this.index = index;
+            this.trim = trim;
+            this.toUpperCase = toUpperCase;
+            this.toLowerCase = toLowerCase;
+            this.dedupe = dedupe;
+            this.defaultValue = defaultValue;
+            this.converter = converter;
+            this.format = format;
+            this.columnName = columnName;
+            this.getter = resolveGetter(owner);
+            this.setter = resolveSetter(owner);
+        }
+
+        String reader() {
+            return READERS.get(boxedType());
+        }
+
+        String boxedType() {
+            if (type.getKind().isPrimitive()) {
+                return processingEnv.getTypeUtils().boxedClass((PrimitiveType) type)
+                        .getQualifiedName().toString();
+            }
+            return type.toString();
+        }
+
+        boolean isDate() {
+            TypeMirror date = processingEnv.getElementUtils().getTypeElement("java.util.Date").asType();
+            return processingEnv.getTypeUtils().isAssignable(type, date);
+        }
+
+        String flags() {
+            List<String> flags = new ArrayList<>();
+            if (trim) {
+                flags.add(SUPPORT + ".TRIM");
+            }
+            if (toUpperCase) {
+                flags.add(SUPPORT + ".TO_UPPER_CASE");
+            }
+            if (toLowerCase) {
+                flags.add(SUPPORT + ".TO_LOWER_CASE");
+            }
+            return flags.isEmpty() ? "0" : String.join(" | ", flags);
+        }
+
+        /**
+         * 读取表达式（不含 item. 前缀）
+         */
+        String read() {
+            return getter;
+        }
+
+        /**
+         * 候选参数名 / 列名（小写），规则与 {@link FileColumnNames#candidates} 一致
+         */
+        List<String> candidates() {
+            Set<String> candidates = new LinkedHashSet<>();
+            if (!columnName.isEmpty()) {
+                candidates.add(columnName.toLowerCase(Locale.ROOT));
+            }
+            candidates.add(name.toLowerCase(Locale.ROOT));
+            StringBuilder underscored = new StringBuilder(name.length() + 4);
+            for (int i = 0; i < name.length(); i++) {
+                char c = name.charAt(i);
+                if (Character.isUpperCase(c) && i > 0) {
+                    underscored.append('_');
+                }
+                underscored.append(Character.toLowerCase(c));
+            }
+            candidates.add(underscored.toString());
+            return new ArrayList<>(candidates);
+        }
+
+        /**
+         * 绑定到位置参数 index 的语句，按字段类型选用类型化 setter（与运行时 PreparedStatementBinder 一致）
+         */
+        String bind() {
+            String value = "item." + read();
+            switch (type.getKind()) {
+                case INT:
+                    return "ps.setInt(index, " + value + ");";
+                case LONG:
+                    return "ps.setLong(index, " + value + ");";
+                case DOUBLE:
+                    return "ps.setDouble(index, " + value + ");";
+                case BOOLEAN:
+                    return "ps.setBoolean(index, " + value + ");";
+                default:
+                    break;
+            }
+            String[] typed = TYPED_SETTERS.get(boxedType());
+            if (typed == null || type.getKind().isPrimitive()) {
+                return "org.springframework.jdbc.core.StatementCreatorUtils.setParameterValue(ps, index, "
+                        + "org.springframework.jdbc.core.SqlTypeValue.TYPE_UNKNOWN, " + value + ");";
+            }
+            return "{\n" +
+                    "                " + boxedType() + " value = " + value + ";\n" +
+                    "                if (value == null) {\n" +
+                    "                    ps.setNull(index, java.sql.Types." + typed[1] + ");\n" +
+                    "                } else {\n" +
+                    "                    ps." + typed[0] + "(index, " + typed[2] + ");\n" +
+                    "                }\n" +
+                    "            }";
+        }
+
+        /**
+         * 写入语句
+         */
+        String write(String value) {
+            return setter.equals(name) ? "item." + name + " = " + value : "item." + setter + "(" + value + ")";
+        }
+
+        /**
+         * 非私有字段直接访问；record 使用组件访问器；私有字段使用显式或 Lombok 生成的 getter
+         *
+         * @return 读取表达式（不含 item. 前缀），无法访问时返回 null
+         */
+        private String resolveGetter(TypeElement owner) {
+            if (!field.getModifiers().contains(Modifier.PRIVATE)) {
+                return name;
+            }
+            if (owner.getKind() == ElementKind.RECORD) {
+                return name + "()";
+            }
+            boolean primitiveBoolean = type.getKind() == TypeKind.BOOLEAN;
+            String method;
+            if (primitiveBoolean && name.length() > 2 && name.startsWith("is") && Character.isUpperCase(name.charAt(2))) {
+                method = name;
+            } else {
+                method = (primitiveBoolean ? "is" : "get") + capitalize(name);
+            }
+            return hasMethod(owner, method, 0) || hasAnnotation(owner, LOMBOK_GETTERS)
+                    || hasAnnotation(field, LOMBOK_GETTERS) ? method + "()" : null;
+        }
+
+        private String resolveSetter(TypeElement owner) {
+            if (!field.getModifiers().contains(Modifier.PRIVATE)) {
+                return name;
+            }
+            String property = name;
+            if (type.getKind() == TypeKind.BOOLEAN && name.length() > 2 && name.startsWith("is")
+                    && Character.isUpperCase(name.charAt(2))) {
+                property = name.substring(2);
+            }
+            String method = "set" + capitalize(property);
+            return hasMethod(owner, method, 1) || hasAnnotation(owner, LOMBOK_SETTERS)
+                    || hasAnnotation(field, LOMBOK_SETTERS) ? method : null;
+        }
+
+        private boolean hasMethod(TypeElement owner, String method, int parameterCount) {
+            for (ExecutableElement element : ElementFilter.methodsIn(owner.getEnclosedElements())) {
+                if (element.getSimpleName().contentEquals(method) && element.getParameters().size() == parameterCount
+                        && !element.getModifiers().contains(Modifier.PRIVATE)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private String capitalize(String value) {
+            return Character.toUpperCase(value.charAt(0)) + value.substring(1);
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.batchweaver.core.annotation;
+
+import org.springframework.batch.item.file.mapping.FieldSetMapper;
+import org.springframework.batch.item.file.transform.FieldExtractor;
+
+import java.util.Optional;
+
+/**
+ * 编译期生成类的查找入口
+ * <p>
+ * {@link FileColumnProcessor} 为实体类 {@code com.example.User} 生成 {@code com.example.User_FieldSetMapper} 等类
+ * （嵌套类 {@code Outer.Inner} 对应 {@code Outer_Inner_FieldSetMapper}）。
+ * 这里按命名规则加载并实例化，类不存在（处理器未运行或实体不满足生成条件）时返回 empty，
+ * 由调用方退化为反射实现。
+ * <p>
+ * 生成类可能带有线程本地缓存等实例状态，每次调用都返回新实例。
+ */
+public final class GeneratedFileColumnClasses {
+
+    public static final String MAPPER_SUFFIX = "_FieldSetMapper";
+    public static final String EXTRACTOR_SUFFIX = "_FieldExtractor";
+    public static final String PARAMETER_BINDER_SUFFIX = "_ParameterBinder";
+
+    private GeneratedFileColumnClasses() {
+    }
+
+    /**
+     * 生成的 FieldSetMapper
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> Optional<FieldSetMapper<T>> fieldSetMapper(Class<T> type) {
+        return instantiate(type, MAPPER_SUFFIX, FieldSetMapper.class).map(mapper -> (FieldSetMapper<T>) mapper);
+    }
+
+    /**
+     * 生成的 FieldExtractor
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> Optional<FieldExtractor<T>> fieldExtractor(Class<T> type) {
+        return instantiate(type, EXTRACTOR_SUFFIX, FieldExtractor.class).map(extractor -> (FieldExtractor<T>) extractor);
+    }
+
+    /**
+     * 生成的 JDBC 位置参数绑定
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> Optional<FieldParameterBinder<T>> parameterBinder(Class<T> type) {
+        return instantiate(type, PARAMETER_BINDER_SUFFIX, FieldParameterBinder.class)
+                .map(binder -> (FieldParameterBinder<T>) binder);
+    }
+
+    private static <S> Optional<S> instantiate(Class<?> type, String suffix, Class<S> expected) {
+        String packageName = type.getPackageName();
+        String simpleName = type.getName().substring(packageName.isEmpty() ? 0 : packageName.length() + 1).replace('$', '_');
+        String className = (packageName.isEmpty() ? "" : packageName + ".") + simpleName + suffix;
+        try {
+            Class<?> generated = Class.forName(className, true, type.getClassLoader());
+            if (!expected.isAssignableFrom(generated)) {
+                return Optional.empty();
+            }
+            return Optional.of(expected.cast(generated.getDeclaredConstructor().newInstance()));
+        } catch (ClassNotFoundException e) {
+            return Optional.empty();
+        } catch (ReflectiveOperationException | LinkageError e) {
+            throw new IllegalStateException("Failed to instantiate generated class " + className, e);
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package com.batchweaver.core.converter;
+
+import java.math.BigDecimal;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+
+/**
+ * 字符区间解析工具
+ * <p>
+ * 所有方法直接读取 [start, end) 区间内的字符，不创建中间字符串；区间内不允许有空白。
+ * 解析失败时抛出 {@link NumberFormatException} 或 {@link IllegalArgumentException}。
+ */
+public final class CharSequenceParsers {
+
+    /**
+     * 无小数点时 long 能安全容纳的最大位数
+     */
+    private static final int MAX_LONG_DIGITS = 18;
+
+    private CharSequenceParsers() {
+    }
+
+    public static int parseInt(CharSequence source, int start, int end) {
+        long value = parseLong(source, start, end);
+        if (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE) {
+            throw numberFormatException(source, start, end);
+        }
+        return (int) value;
+    }
+
+    public static long parseLong(CharSequence source, int start, int end) {
+        if (start >= end) {
+            throw numberFormatException(source, start, end);
+        }
+        boolean negative = false;
+        int i = start;
+        char first = source.charAt(i);
+        if (first == '-' || first == '+') {
+            negative = first == '-';
+            i++;
+            if (i == end) {
+                throw numberFormatException(source, start, end);
+            }
+        }
+        // 以负数累加，Long.MIN_VALUE 不会溢出
+        long limit = negative ? Long.MIN_VALUE : -Long.MAX_VALUE;
+        long multiplyMin = limit / 10;
+        long result = 0;
+        for (; i < end; i++) {
+            int digit = source.charAt(i) - '0';
+            if (digit < 0 || digit > 9 || result < multiplyMin) {
+                throw numberFormatException(source, start, end);
+            }
+            result *= 10;
+            if (result < limit + digit) {
+                throw numberFormatException(source, start, end);
+            }
+            result -= digit;
+        }
+        return negative ? result : -result;
+    }
+
+    public static BigDecimal parseDecimal(CharSequence source, int start, int end) {
+        if (start >= end) {
+            throw numberFormatException(source, start, end);
+        }
+        BigDecimal fast = parseSmallDecimal(source, start, end);
+        if (fast != null) {
+            return fast;
+        }
+        char[] chars = new char[end - start];
+        for (int i = start; i < end; i++) {
+            chars[i - start] = source.charAt(i);
+        }
+        try {
+            return new BigDecimal(chars);
+        } catch (NumberFormatException e) {
+            throw numberFormatException(source, start, end);
+        }
+    }
+
+    /**
+     * 解析 yyyyMMdd 或 yyyy-MM-dd
+     */
+    public static LocalDate parseLocalDate(CharSequence source, int start, int end) {
+        int length = end - start;
+        try {
+            if (length == 8) {
+                return LocalDate.of(digits(source, start, 4), digits(source, start + 4, 2), digits(source, start + 6, 2));
+            }
+            if (length == 10 && source.charAt(start + 4) == '-' && source.charAt(start + 7) == '-') {
+                return LocalDate.of(digits(source, start, 4), digits(source, start + 5, 2), digits(source, start + 8, 2));
+            }
+        } catch (NumberFormatException | DateTimeException e) {
+            throw new IllegalArgumentException("Unparseable date: " + source.subSequence(start, end)
+                    + ", expected yyyyMMdd or yyyy-MM-dd", e);
+        }
+        throw new IllegalArgumentException("Unparseable date: " + source.subSequence(start, end)
+                + ", expected yyyyMMdd or yyyy-MM-dd");
+    }
+
+    // ============================================================================
+    // 私有辅助方法
+    // ============================================================================
+
+    private static int digits(CharSequence source, int start, int count) {
+        int value = 0;
+        for (int i = start; i < start + count; i++) {
+            int digit = source.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                throw new NumberFormatException();
+            }
+            value = value * 10 + digit;
+        }
+        return value;
+    }
+
+    /**
+     * 最多 18 位有效数字的定点数：累加为 long 后按小数位数构造
+     *
+     * @return 解析结果，超出快速路径范围（指数形式、位数过多等）时返回 null
+     */
+    private static BigDecimal parseSmallDecimal(CharSequence source, int start, int end) {
+        int i = start;
+        boolean negative = false;
+        char first = source.charAt(i);
+        if (first == '-' || first == '+') {
+            negative = first == '-';
+            i++;
+        }
+        long unscaled = 0;
+        int digits = 0;
+        int scale = -1;
+        for (; i < end; i++) {
+            char c = source.charAt(i);
+            if (c >= '0' && c <= '9') {
+                if (++digits > MAX_LONG_DIGITS) {
+                    return null;
+                }
+                unscaled = unscaled * 10 + (c - '0');
+                if (scale >= 0) {
+                    scale++;
+                }
+            } else if (c == '.' && scale < 0) {
+                scale = 0;
+            } else {
+                return null;
+            }
+        }
+        if (digits == 0) {
+            return null;
+        }
+        return BigDecimal.valueOf(negative ? -unscaled : unscaled, Math.max(scale, 0));
+    }
+
+    private static NumberFormatException numberFormatException(CharSequence source, int start, int end) {
+        return new NumberFormatException("For input string: \"" + source.subSequence(start, end) + "\"");
+    }
+}
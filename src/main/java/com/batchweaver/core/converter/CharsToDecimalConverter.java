@@ -0,0 +1,16 @@
+package com.batchweaver.core.converter;
+
+import java.math.BigDecimal;
+
+/**
+ * 字符区间 → BigDecimal 转换器
+ * <p>
+ * 不超过 18 位有效数字的定点数直接累加为 long 构造，其余交给 BigDecimal 解析
+ */
+public class CharsToDecimalConverter implements DecimalConverter {
+
+    @Override
+    public BigDecimal convertDecimal(CharSequence source, int start, int end) {
+        return CharSequenceParsers.parseDecimal(source, start, end);
+    }
+}
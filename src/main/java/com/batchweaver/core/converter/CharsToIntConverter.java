@@ -0,0 +1,12 @@
+package com.batchweaver.core.converter;
+
+/**
+ * 字符区间 → int 转换器（逐字符解析，不创建中间字符串）
+ */
+public class CharsToIntConverter implements IntConverter {
+
+    @Override
+    public int convertInt(CharSequence source, int start, int end) {
+        return CharSequenceParsers.parseInt(source, start, end);
+    }
+}
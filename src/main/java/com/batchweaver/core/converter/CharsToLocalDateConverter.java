@@ -0,0 +1,16 @@
+package com.batchweaver.core.converter;
+
+import java.time.LocalDate;
+
+/**
+ * 字符区间 → LocalDate 转换器
+ * <p>
+ * 按长度识别 yyyyMMdd（8 位）和 yyyy-MM-dd（10 位），逐字符解析，不经过 DateTimeFormatter
+ */
+public class CharsToLocalDateConverter implements LocalDateConverter {
+
+    @Override
+    public LocalDate convertDate(CharSequence source, int start, int end) {
+        return CharSequenceParsers.parseLocalDate(source, start, end);
+    }
+}
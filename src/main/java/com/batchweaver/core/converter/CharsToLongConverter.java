@@ -0,0 +1,12 @@
+package com.batchweaver.core.converter;
+
+/**
+ * 字符区间 → long 转换器（逐字符解析，不创建中间字符串）
+ */
+public class CharsToLongConverter implements LongConverter {
+
+    @Override
+    public long convertLong(CharSequence source, int start, int end) {
+        return CharSequenceParsers.parseLong(source, start, end);
+    }
+}
@@ -0,0 +1,19 @@
+package com.batchweaver.core.converter;
+
+import java.math.BigDecimal;
+
+/**
+ * BigDecimal 区间转换器
+ */
+public interface DecimalConverter extends RangeConverter<BigDecimal> {
+
+    /**
+     * 将字符区间解析为 BigDecimal
+     */
+    BigDecimal convertDecimal(CharSequence source, int start, int end);
+
+    @Override
+    default BigDecimal convert(CharSequence source, int start, int end) {
+        return convertDecimal(source, start, end);
+    }
+}
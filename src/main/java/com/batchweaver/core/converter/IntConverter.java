@@ -0,0 +1,19 @@
+package com.batchweaver.core.converter;
+
+/**
+ * int 特化转换器
+ * <p>
+ * 映射到 int 字段时直接调用 {@link #convertInt}，不装箱；映射到 Integer 字段时按普通区间转换器使用
+ */
+public interface IntConverter extends RangeConverter<Integer> {
+
+    /**
+     * 将字符区间解析为 int
+     */
+    int convertInt(CharSequence source, int start, int end);
+
+    @Override
+    default Integer convert(CharSequence source, int start, int end) {
+        return convertInt(source, start, end);
+    }
+}
@@ -0,0 +1,19 @@
+package com.batchweaver.core.converter;
+
+import java.time.LocalDate;
+
+/**
+ * LocalDate 区间转换器
+ */
+public interface LocalDateConverter extends RangeConverter<LocalDate> {
+
+    /**
+     * 将字符区间解析为 LocalDate
+     */
+    LocalDate convertDate(CharSequence source, int start, int end);
+
+    @Override
+    default LocalDate convert(CharSequence source, int start, int end) {
+        return convertDate(source, start, end);
+    }
+}
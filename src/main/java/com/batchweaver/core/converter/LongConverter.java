@@ -0,0 +1,19 @@
+package com.batchweaver.core.converter;
+
+/**
+ * long 特化转换器
+ * <p>
+ * 映射到 long 字段时直接调用 {@link #convertLong}，不装箱；映射到 Long 字段时按普通区间转换器使用
+ */
+public interface LongConverter extends RangeConverter<Long> {
+
+    /**
+     * 将字符区间解析为 long
+     */
+    long convertLong(CharSequence source, int start, int end);
+
+    @Override
+    default Long convert(CharSequence source, int start, int end) {
+        return convertLong(source, start, end);
+    }
+}
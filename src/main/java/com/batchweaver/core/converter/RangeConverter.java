@@ -0,0 +1,47 @@
+package com.batchweaver.core.converter;
+
+/**
+ * 基于字符区间的类型转换器
+ * <p>
+ * 直接从 {@link CharSequence} 的 [start, end) 区间解析，调用方（如
+ * {@link com.batchweaver.core.fileprocess.tokenizer.FlyweightFieldSet}）无需为每个字段创建 String。
+ * 传入的区间已经过清洗（trim），且不为空。
+ * <p>
+ * 基本类型特化：{@link IntConverter}、{@link LongConverter}；常用引用类型：{@link DecimalConverter}、{@link LocalDateConverter}。
+ * 原有的 {@link TypeConverter} 通过 {@link #adapt(TypeConverter)} 适配后同样可用。
+ *
+ * @param <T> 目标类型
+ */
+public interface RangeConverter<T> extends TypeConverter<T> {
+
+    /**
+     * 将字符区间转换为目标类型
+     *
+     * @param source 字符序列
+     * @param start  起始下标（含）
+     * @param end    结束下标（不含）
+     * @return 转换后的值
+     * @throws Exception 转换失败时抛出异常
+     */
+    T convert(CharSequence source, int start, int end) throws Exception;
+
+    @Override
+    default T convert(String value) throws Exception {
+        if (value == null || value.trim().isEmpty()) {
+            return null;
+        }
+        String trimmed = value.trim();
+        return convert(trimmed, 0, trimmed.length());
+    }
+
+    /**
+     * 把普通转换器适配为区间转换器（已经是区间转换器时原样返回）
+     */
+    @SuppressWarnings("unchecked")
+    static <T> RangeConverter<T> adapt(TypeConverter<T> converter) {
+        if (converter instanceof RangeConverter<?> range) {
+            return (RangeConverter<T>) range;
+        }
+        return new TypeConverterAdapter<>(converter);
+    }
+}
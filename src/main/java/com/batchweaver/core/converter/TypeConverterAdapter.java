@@ -0,0 +1,27 @@
+package com.batchweaver.core.converter;
+
+/**
+ * 普通转换器到区间转换器的适配器
+ * <p>
+ * 截取区间为 String 后交给原转换器，行为与直接调用 {@link TypeConverter#convert(String)} 一致
+ *
+ * @param <T> 目标类型
+ */
+public class TypeConverterAdapter<T> implements RangeConverter<T> {
+
+    private final TypeConverter<T> delegate;
+
+    public TypeConverterAdapter(TypeConverter<T> delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public T convert(CharSequence source, int start, int end) throws Exception {
+        return delegate.convert(source.subSequence(start, end).toString());
+    }
+
+    @Override
+    public T convert(String value) throws Exception {
+        return delegate.convert(value);
+    }
+}
@@ -1,8 +1,9 @@
 package com.batchweaver.core.factory;
 
+import com.batchweaver.core.fileprocess.reader.AnnotationRowMapper;
 import org.springframework.batch.item.database.JdbcPagingItemReader;
 import org.springframework.batch.item.database.PagingQueryProvider;
-import org.springframework.jdbc.core.BeanPropertyRowMapper;
+import org.springframework.jdbc.core.DataClassRowMapper;
 import org.springframework.stereotype.Component;
 
 import javax.sql.DataSource;
@@ -19,7 +20,7 @@ import javax.sql.DataSource;
  *     "userReader",
  *     dataSource,
  *     queryProvider,
- *     new BeanPropertyRowMapper<>(DemoUser.class),
+ *     DemoUser.class,
  *     100
  * );
  * }</pre>
@@ -34,6 +35,10 @@ public class BatchReaderFactory {
      * 创建 JDBC 分页 Reader
      * <p>
      * 自动调用 afterPropertiesSet() 完成初始化，确保 Reader 可以立即使用。
+     * <p>
+     * 所有字段都带 @FileColumn 注解的实体（包括 record 和全参构造器的类，见 {@link AnnotationRowMapper#supports}）
+     * 使用预编译的 {@link AnnotationRowMapper}（列下标每页解析一次、类型化 getter）；
+     * 其余类型（含未标注字段或继承字段的实体）使用 {@link DataClassRowMapper}，按属性名映射所有属性，并支持 record / 构造器绑定。
      *
      * @param name          Reader 名称（用于日志和监控）
      * @param dataSource    数据源
@@ -55,7 +60,9 @@ public class BatchReaderFactory {
         reader.setName(name);
         reader.setDataSource(dataSource);
         reader.setQueryProvider(queryProvider);
-        reader.setRowMapper(new BeanPropertyRowMapper<>(itemType));
+        reader.setRowMapper(AnnotationRowMapper.supports(itemType)
+                ? new AnnotationRowMapper<>(itemType)
+                : new DataClassRowMapper<>(itemType));
         reader.setPageSize(pageSize);
         reader.afterPropertiesSet();  // ✅ 统一初始化，避免遗漏
 
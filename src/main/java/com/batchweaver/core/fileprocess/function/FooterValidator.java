@@ -2,6 +2,8 @@ package com.batchweaver.core.fileprocess.function;
 
 import com.batchweaver.core.fileprocess.model.FooterInfo;
 
+import java.util.Map;
+
 /**
  * 尾校验器函数接口
  * <p>
@@ -18,4 +20,18 @@ public interface FooterValidator {
      * @throws Exception 校验失败时抛出异常
      */
     void validate(FooterInfo footer, long actualCount) throws Exception;
+
+    /**
+     * 校验尾信息（多记录类型文件）
+     * <p>
+     * 默认只校验合计数；需要按类型对账时覆盖此方法（声明的分类型记录数通常由 FooterParser 放入 {@link FooterInfo#getMetadata()}）
+     *
+     * @param footer           尾信息
+     * @param actualCount      实际处理的记录数（合计）
+     * @param recordTypeCounts 按记录类型统计的实际处理数（非多记录类型模式时为空）
+     * @throws Exception 校验失败时抛出异常
+     */
+    default void validate(FooterInfo footer, long actualCount, Map<String, Long> recordTypeCounts) throws Exception {
+        validate(footer, actualCount);
+    }
 }
@@ -0,0 +1,92 @@
+package com.batchweaver.core.fileprocess.function;
+
+import com.batchweaver.core.fileprocess.reader.source.RawLine;
+
+import java.util.Objects;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+/**
+ * 原始行过滤器函数接口
+ * <p>
+ * 在分词和映射之前对数据行做判断（如记录类型前缀、固定位置的标志字符），
+ * 被拒绝的行不再分词和映射，比在 ItemProcessor 中过滤映射后的对象便宜得多。
+ * Header / Footer 行不经过过滤器。
+ * <p>
+ * 过滤器以未解码的 {@link RawLine} 判断：按字节判断的过滤器（{@link #byteAt}）直接读取原始字节，被丢弃的行不做字符解码；
+ * 按字符串判断的过滤器（{@link #startsWith}、{@link #charAt}、{@link #lookingAt}、{@link #decoded}）先调用 {@link RawLine#decode()}。
+ * 组合过滤器时直接对同一个 RawLine 调用各自的 test，如 {@code line -> a.test(line) && b.test(line)}。
+ */
+@FunctionalInterface
+public interface LinePredicate {
+
+    /**
+     * 判断是否保留该行
+     *
+     * @param line 原始行（未解码、未去除空白），按 Reader 的字符集编码
+     * @return true 保留，false 丢弃
+     */
+    boolean test(RawLine line);
+
+    /**
+     * 取反
+     */
+    default LinePredicate negate() {
+        return line -> !test(line);
+    }
+
+    /**
+     * 按解码后的行内容判断（未去除空白）
+     */
+    static LinePredicate decoded(Predicate<String> predicate) {
+        Objects.requireNonNull(predicate, "predicate must not be null");
+        return line -> predicate.test(line.decode());
+    }
+
+    /**
+     * 以指定前缀开头的行（如记录类型 "D|"）
+     */
+    static LinePredicate startsWith(String prefix) {
+        Objects.requireNonNull(prefix, "prefix must not be null");
+        return decoded(line -> line.startsWith(prefix));
+    }
+
+    /**
+     * 指定字符位置为指定字符的行
+     * <p>
+     * 按解码后的 UTF-16 字符下标判断；GBK / GB18030 等定长文件按字节布局，双字节字段之后的字符下标与字节位置不同，
+     * 这类文件使用 {@link #byteAt(int, byte)}
+     *
+     * @param offset   字符下标（从 0 开始）
+     * @param expected 期望字符
+     */
+    static LinePredicate charAt(int offset, char expected) {
+        if (offset < 0) {
+            throw new IllegalArgumentException("offset must not be negative: " + offset);
+        }
+        return decoded(line -> line.length() > offset && line.charAt(offset) == expected);
+    }
+
+    /**
+     * 指定字节位置为指定字节的行（按字节布局的定长文件的记录类型标志位）
+     * <p>
+     * 直接读取 Reader 字符集编码的原始字节，被丢弃的行不解码
+     *
+     * @param offset   字节下标（从 0 开始）
+     * @param expected 期望字节（ASCII 标志位可直接写字符，如 {@code (byte) 'D'}）
+     */
+    static LinePredicate byteAt(int offset, byte expected) {
+        if (offset < 0) {
+            throw new IllegalArgumentException("offset must not be negative: " + offset);
+        }
+        return line -> line.length() > offset && line.byteAt(offset) == expected;
+    }
+
+    /**
+     * 从行首开始匹配正则的行（{@link java.util.regex.Matcher#lookingAt()}，无需匹配整行）
+     */
+    static LinePredicate lookingAt(String regex) {
+        Pattern pattern = Pattern.compile(regex);
+        return decoded(line -> pattern.matcher(line).lookingAt());
+    }
+}
@@ -0,0 +1,131 @@
+package com.batchweaver.core.fileprocess.partition;
+
+import com.batchweaver.core.fileprocess.function.FooterValidator;
+import com.batchweaver.core.fileprocess.model.FooterInfo;
+import com.batchweaver.core.fileprocess.reader.HeaderFooterAwareReader;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.partition.support.DefaultStepExecutionAggregator;
+import org.springframework.batch.core.partition.support.StepExecutionAggregator;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.item.ExecutionContext;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 分区 Footer 对账聚合器
+ * <p>
+ * 在 Master Step 中汇总所有分区 Reader 的 {@link HeaderFooterAwareReader#ACTUAL_RECORD_COUNT_KEY}
+ * 和 {@link HeaderFooterAwareReader#FILTERED_RECORD_COUNT_KEY}，两者合计与最后一个分区解析出的 {@link FooterInfo} 做记录数校验；
+ * 多记录类型文件同时汇总 {@link HeaderFooterAwareReader#RECORD_TYPE_COUNTS_KEY}。
+ * <p>
+ * <b>重启场景：</b>重启时 Spring Batch 只会重新执行未完成的分区。
+ * 如果提供了 {@link JobRepository}，会按分区名称查出每个分区最近一次的 StepExecution，保证汇总的是全量分区。
+ * <p>
+ * 只有全部分区都 COMPLETED 时才执行 Footer 校验；校验失败抛出异常，导致 Master Step 失败。
+ */
+@Slf4j
+public class FooterReconcilingStepExecutionAggregator implements StepExecutionAggregator {
+
+    private final StepExecutionAggregator delegate = new DefaultStepExecutionAggregator();
+
+    private final FooterValidator footerValidator;
+
+    private final JobRepository jobRepository;
+
+    /**
+     * @param footerValidator Footer校验器（可选，为 null 时只汇总不校验）
+     * @param jobRepository   JobRepository（可选，用于重启时查找已完成分区）
+     */
+    public FooterReconcilingStepExecutionAggregator(FooterValidator footerValidator, JobRepository jobRepository) {
+        this.footerValidator = footerValidator;
+        this.jobRepository = jobRepository;
+    }
+
+    @Override
+    public void aggregate(StepExecution result, Collection<StepExecution> executions) {
+        delegate.aggregate(result, executions);
+        if (executions == null || executions.isEmpty()) {
+            return;
+        }
+
+        Collection<StepExecution> partitions = resolveAllPartitions(result, executions);
+
+        long actualRecordCount = 0;
+        long filteredRecordCount = 0;
+        Map<String, Long> recordTypeCounts = new HashMap<>();
+        FooterInfo footerInfo = null;
+        boolean allCompleted = true;
+        for (StepExecution partition : partitions) {
+            ExecutionContext context = partition.getExecutionContext();
+            actualRecordCount += context.getLong(HeaderFooterAwareReader.ACTUAL_RECORD_COUNT_KEY, 0L);
+            filteredRecordCount += context.getLong(HeaderFooterAwareReader.FILTERED_RECORD_COUNT_KEY, 0L);
+            if (context.get(HeaderFooterAwareReader.RECORD_TYPE_COUNTS_KEY) instanceof Map<?, ?> partitionCounts) {
+                partitionCounts.forEach((type, count) -> recordTypeCounts.merge((String) type, (Long) count, Long::sum));
+            }
+            if (Boolean.TRUE.equals(context.get(LineAlignedFilePartitioner.LAST_PARTITION_KEY))
+                    && context.get(HeaderFooterAwareReader.FOOTER_INFO_KEY) instanceof FooterInfo lastFooter) {
+                footerInfo = lastFooter;
+            }
+            allCompleted &= partition.getStatus() == BatchStatus.COMPLETED;
+        }
+
+        ExecutionContext resultContext = result.getExecutionContext();
+        resultContext.putLong(HeaderFooterAwareReader.ACTUAL_RECORD_COUNT_KEY, actualRecordCount);
+        resultContext.putLong(HeaderFooterAwareReader.FILTERED_RECORD_COUNT_KEY, filteredRecordCount);
+        if (!recordTypeCounts.isEmpty()) {
+            resultContext.put(HeaderFooterAwareReader.RECORD_TYPE_COUNTS_KEY, recordTypeCounts);
+        }
+        if (footerInfo != null) {
+            resultContext.put(HeaderFooterAwareReader.FOOTER_INFO_KEY, footerInfo);
+            resultContext.putLong(HeaderFooterAwareReader.DECLARED_RECORD_COUNT_KEY, footerInfo.getCount());
+        }
+        log.info("Aggregated {} partitions: actual records={}, filtered records={}, footer={}",
+                partitions.size(), actualRecordCount, filteredRecordCount, footerInfo);
+
+        if (!allCompleted || footerValidator == null || footerInfo == null) {
+            return;
+        }
+        try {
+            footerValidator.validate(footerInfo, actualRecordCount + filteredRecordCount, recordTypeCounts);
+            log.info("Partitioned footer validation passed: expected={}, actual={}, filtered={}",
+                    footerInfo.getCount(), actualRecordCount, filteredRecordCount);
+        } catch (Exception e) {
+            throw new IllegalStateException("Partitioned footer validation failed: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 查找全部分区的最近一次 StepExecution
+     */
+    private Collection<StepExecution> resolveAllPartitions(StepExecution result, Collection<StepExecution> executions) {
+        if (jobRepository == null) {
+            return executions;
+        }
+        StepExecution sample = executions.iterator().next();
+        int partitionCount = sample.getExecutionContext().getInt(LineAlignedFilePartitioner.PARTITION_COUNT_KEY, -1);
+        String stepName = sample.getStepName();
+        int separator = stepName.lastIndexOf(':');
+        if (partitionCount <= 0 || separator < 0) {
+            return executions;
+        }
+
+        String workerPrefix = stepName.substring(0, separator + 1) + LineAlignedFilePartitioner.PARTITION_NAME_PREFIX;
+        JobExecution jobExecution = result.getJobExecution();
+        List<StepExecution> partitions = new ArrayList<>(partitionCount);
+        for (int i = 0; i < partitionCount; i++) {
+            StepExecution last = jobRepository.getLastStepExecution(jobExecution.getJobInstance(), workerPrefix + i);
+            if (last == null) {
+                return executions;
+            }
+            partitions.add(last);
+        }
+        return partitions;
+    }
+}
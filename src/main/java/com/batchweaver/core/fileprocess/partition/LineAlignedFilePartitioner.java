@@ -0,0 +1,140 @@
+package com.batchweaver.core.fileprocess.partition;
+
+import com.batchweaver.core.fileprocess.reader.source.LineSources;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.partition.support.Partitioner;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.core.io.Resource;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 按行边界对齐的字节范围分区器
+ * <p>
+ * 将单个大文件切分为 N 个字节范围 [startOffset, endOffset)，每个范围的起点都是某一行的行首，
+ * 配合 {@link com.batchweaver.core.fileprocess.reader.HeaderFooterAwareReader} 实现单文件并行导入：
+ * <ul>
+ *   <li>只有第一个分区处理 Header</li>
+ *   <li>只有最后一个分区处理 Footer</li>
+ *   <li>Footer 记录数由 Master Step 汇总各分区记录数后校验（见 {@link FooterReconcilingStepExecutionAggregator}）</li>
+ * </ul>
+ * <p>
+ * 使用示例：
+ * <pre>{@code
+ * new StepBuilder("importMaster", jobRepository)
+ *     .partitioner("importWorker", new LineAlignedFilePartitioner(resource))
+ *     .step(importWorkerStep)          // Reader 必须是 @StepScope
+ *     .gridSize(16)
+ *     .taskExecutor(taskExecutor)
+ *     .aggregator(new FooterReconcilingStepExecutionAggregator(footerValidator, jobRepository))
+ *     .build();
+ * }</pre>
+ */
+@Slf4j
+public class LineAlignedFilePartitioner implements Partitioner {
+
+    public static final String PARTITION_NAME_PREFIX = "partition";
+
+    public static final String START_OFFSET_KEY = "partition.startOffset";
+    public static final String END_OFFSET_KEY = "partition.endOffset";
+    public static final String PARTITION_INDEX_KEY = "partition.index";
+    public static final String PARTITION_COUNT_KEY = "partition.count";
+    public static final String FIRST_PARTITION_KEY = "partition.first";
+    public static final String LAST_PARTITION_KEY = "partition.last";
+
+    private static final int SCAN_BUFFER_SIZE = 8 * 1024;
+
+    private final Resource resource;
+
+    public LineAlignedFilePartitioner(Resource resource) {
+        if (resource == null || !resource.isFile()) {
+            throw new IllegalArgumentException("LineAlignedFilePartitioner requires a file resource: " + resource);
+        }
+        if (LineSources.isCompressed(resource)) {
+            throw new IllegalArgumentException("LineAlignedFilePartitioner does not support compressed resources: " + resource);
+        }
+        this.resource = resource;
+    }
+
+    @Override
+    public Map<String, ExecutionContext> partition(int gridSize) {
+        if (gridSize <= 0) {
+            throw new IllegalArgumentException("gridSize must be positive");
+        }
+        try (FileChannel channel = FileChannel.open(resource.getFile().toPath(), StandardOpenOption.READ)) {
+            long size = channel.size();
+
+            // 计算对齐后的分区边界（去掉空范围）
+            long[] boundaries = new long[gridSize + 1];
+            int count = 0;
+            boundaries[0] = 0;
+            for (int i = 1; i < gridSize; i++) {
+                long target = Math.max(size * i / gridSize, boundaries[count]);
+                long aligned = nextLineStart(channel, target, size);
+                if (aligned > boundaries[count] && aligned < size) {
+                    boundaries[++count] = aligned;
+                }
+            }
+            boundaries[++count] = size;
+
+            Map<String, ExecutionContext> partitions = new LinkedHashMap<>();
+            for (int i = 0; i < count; i++) {
+                ExecutionContext context = new ExecutionContext();
+                context.putLong(START_OFFSET_KEY, boundaries[i]);
+                context.putLong(END_OFFSET_KEY, boundaries[i + 1]);
+                context.putInt(PARTITION_INDEX_KEY, i);
+                context.putInt(PARTITION_COUNT_KEY, count);
+                context.put(FIRST_PARTITION_KEY, i == 0);
+                context.put(LAST_PARTITION_KEY, i == count - 1);
+                partitions.put(PARTITION_NAME_PREFIX + i, context);
+            }
+
+            log.info("Partitioned {} ({} bytes) into {} line-aligned ranges (gridSize={})",
+                    resource, size, count, gridSize);
+            return partitions;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to partition resource: " + resource, e);
+        }
+    }
+
+    /**
+     * 查找 target 及之后的第一个行首位置
+     * <p>
+     * 行首定义：前一个字节是行结束符（\n，或不跟随 \n 的 \r）
+     */
+    private long nextLineStart(FileChannel channel, long target, long size) throws IOException {
+        if (target <= 0) {
+            return 0;
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(SCAN_BUFFER_SIZE);
+        long offset = target - 1;
+        boolean pendingCr = false;
+        while (offset < size) {
+            buffer.clear();
+            int n = channel.read(buffer, offset);
+            if (n <= 0) {
+                break;
+            }
+            for (int i = 0; i < n; i++) {
+                byte b = buffer.get(i);
+                if (pendingCr) {
+                    return b == '\n' ? offset + i + 1 : offset + i;
+                }
+                if (b == '\n') {
+                    return offset + i + 1;
+                }
+                if (b == '\r') {
+                    pendingCr = true;
+                }
+            }
+            offset += n;
+        }
+        return size;
+    }
+}
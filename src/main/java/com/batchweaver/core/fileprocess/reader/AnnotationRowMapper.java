@@ -1,46 +1,419 @@
 package com.batchweaver.core.fileprocess.reader;
 
 import com.batchweaver.core.annotation.FileColumn;
+import com.batchweaver.core.annotation.FileColumnNames;
+import com.batchweaver.core.reader.ConstructorTarget;
 import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.support.JdbcUtils;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.math.BigDecimal;
 import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 
 /**
  * 基于注解的RowMapper
  * <p>
- * 根据@FileColumn注解的name属性，从ResultSet映射到实体对象
+ * 把 ResultSet 映射为带 @FileColumn 注解的实体对象。列名按 {@link FileColumnNames} 的规则匹配
+ * （注解的 name 属性、字段名、字段名的下划线形式，不区分大小写）；结果集中没有匹配列的字段保持默认值。
+ * <p>
+ * 只映射实体类自身声明的 @FileColumn 字段（不读取父类字段和未标注的字段），
+ * 因此 {@link #supports} 只接受所有实例字段都标注了 @FileColumn 且没有继承字段的类型，其余类型应使用 DataClassRowMapper。
+ * <p>
+ * 有无参构造器的类逐个写入字段；record 和只有全参构造器的类（{@link ConstructorTarget}）先读取所有列，
+ * 再以构造参数一次性创建实例。
+ * <p>
+ * 注解只在首次使用某个实体类时解析一次，编译为按字段类型选定的读取方式（getInt / getLong / getTimestamp 等类型化 getter）
+ * 和字段写入的 MethodHandle；列下标按 {@link ResultSetMetaData} 每个结果集只解析一次（分页 Reader 每页一个结果集），
+ * 映射每一行时不再有注解读取、按列名查找和反射写入。
+ * <p>
+ * 空值（SQL NULL）不写入字段，基本类型字段保持默认值（构造器模式下传入对应的默认值）。
  */
 public class AnnotationRowMapper<T> implements RowMapper<T> {
 
+    private static final ClassValue<Plan> CACHE = new ClassValue<>() {
+        @Override
+        protected Plan computeValue(Class<?> type) {
+            return Plan.compile(type);
+        }
+    };
+
     private final Class<T> targetType;
+    private final Plan plan;
+
+    /**
+     * 最近一次解析的结果集及列下标（分页 Reader 每页一个新的结果集）
+     */
+    private volatile ResolvedColumns resolved;
 
     public AnnotationRowMapper(Class<T> targetType) {
         this.targetType = targetType;
+        this.plan = CACHE.get(targetType);
+    }
+
+    /**
+     * 是否可以使用本映射器而不遗漏任何字段：所有实例字段都标注了 @FileColumn、父类没有实例字段，
+     * 且可以构造（无参构造器、record 或全参构造器）
+     */
+    public static boolean supports(Class<?> type) {
+        boolean annotated = false;
+        for (Field field : type.getDeclaredFields()) {
+            if (Modifier.isStatic(field.getModifiers()) || field.isSynthetic()) {
+                continue;
+            }
+            if (!field.isAnnotationPresent(FileColumn.class)) {
+                return false;
+            }
+            annotated = true;
+        }
+        if (!annotated || hasInheritedFields(type)) {
+            return false;
+        }
+        try {
+            CACHE.get(type);
+            return true;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    private static boolean hasInheritedFields(Class<?> type) {
+        for (Class<?> current = type.getSuperclass(); current != null && current != Object.class; current = current.getSuperclass()) {
+            for (Field field : current.getDeclaredFields()) {
+                if (!Modifier.isStatic(field.getModifiers()) && !field.isSynthetic()) {
+                    return true;
+                }
+            }
+        }
+        return false;
     }
 
     @Override
+    @SuppressWarnings("unchecked")
     public T mapRow(ResultSet rs, int rowNum) throws SQLException {
+        ResolvedColumns columns = resolved;
+        if (columns == null || columns.resultSet != rs) {
+            columns = new ResolvedColumns(rs, plan.resolve(rs.getMetaData()));
+            resolved = columns;
+        }
         try {
-            T instance = targetType.getDeclaredConstructor().newInstance();
+            int[] indices = columns.indices;
+            if (plan.defaultArguments != null) {
+                Object[] arguments = plan.defaultArguments.clone();
+                for (int i = 0; i < indices.length; i++) {
+                    if (indices[i] > 0) {
+                        Object value = plan.columns[i].read(rs, indices[i]);
+                        if (value != null) {
+                            arguments[plan.positions[i]] = value;
+                        }
+                    }
+                }
+                return (T) plan.constructor.invokeExact(arguments);
+            }
+            Object instance = plan.constructor.invokeExact();
+            for (int i = 0; i < indices.length; i++) {
+                if (indices[i] > 0) {
+                    plan.columns[i].bind(instance, rs, indices[i]);
+                }
+            }
+            return (T) instance;
+        } catch (SQLException e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new SQLException("Failed to map row to " + targetType.getSimpleName(), e);
+        }
+    }
+
+    // ============================================================================
+    // 预编译计划
+    // ============================================================================
+
+    private record ResolvedColumns(ResultSet resultSet, int[] indices) {
+    }
+
+    /**
+     * 每个实体类的构造器与列绑定（按类缓存，线程安全）
+     */
+    private static final class Plan {
+
+        /**
+         * 字段模式为 ()Object；构造器模式为 (Object[])Object
+         */
+        private final MethodHandle constructor;
+        private final RowColumn[] columns;
+
+        /**
+         * 构造器模式：第 i 个列绑定对应的构造参数下标与参数默认值；字段模式为 null
+         */
+        private final int[] positions;
+        private final Object[] defaultArguments;
+
+        private Plan(MethodHandle constructor, RowColumn[] columns) {
+            this(constructor, columns, null, null);
+        }
+
+        private Plan(MethodHandle constructor, RowColumn[] columns, int[] positions, Object[] defaultArguments) {
+            this.constructor = constructor;
+            this.columns = columns;
+            this.positions = positions;
+            this.defaultArguments = defaultArguments;
+        }
+
+        static Plan compile(Class<?> type) {
+            try {
+                MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(type, MethodHandles.lookup());
+                ConstructorTarget target = ConstructorTarget.of(type);
+                if (target != null) {
+                    return compileConstructor(target, lookup);
+                }
+                MethodHandle constructor = lookup.findConstructor(type, MethodType.methodType(void.class))
+                        .asType(MethodType.methodType(Object.class));
+                List<RowColumn> columns = new ArrayList<>();
+                for (Field field : type.getDeclaredFields()) {
+                    if (!field.isAnnotationPresent(FileColumn.class) || Modifier.isStatic(field.getModifiers())) {
+                        continue;
+                    }
+                    if (Modifier.isFinal(field.getModifiers())) {
+                        throw new IllegalArgumentException("@FileColumn field must not be final: "
+                                + type.getSimpleName() + "." + field.getName());
+                    }
+                    columns.add(RowColumn.of(field, lookup.unreflectSetter(field)));
+                }
+                return new Plan(constructor, columns.toArray(new RowColumn[0]));
+            } catch (NoSuchMethodException e) {
+                throw new IllegalArgumentException("No no-arg constructor found in " + type.getName(), e);
+            } catch (ReflectiveOperationException e) {
+                throw new IllegalArgumentException("Cannot access " + type.getName(), e);
+            }
+        }
 
-            for (Field field : targetType.getDeclaredFields()) {
+        /**
+         * 构造器模式：列值读取后作为构造参数，不需要 setter
+         */
+        private static Plan compileConstructor(ConstructorTarget target, MethodHandles.Lookup lookup)
+                throws IllegalAccessException {
+            List<RowColumn> columns = new ArrayList<>();
+            List<Integer> positions = new ArrayList<>();
+            Object[] defaultArguments = new Object[target.fields.length];
+            for (int i = 0; i < target.fields.length; i++) {
+                Field field = target.fields[i];
+                defaultArguments[i] = ConstructorTarget.defaultValue(field.getType());
                 if (field.isAnnotationPresent(FileColumn.class)) {
-                    FileColumn annotation = field.getAnnotation(FileColumn.class);
-                    String columnName = annotation.name().isEmpty() ? field.getName() : annotation.name();
+                    columns.add(RowColumn.of(field, null));
+                    positions.add(i);
+                }
+            }
+            MethodHandle constructor = lookup.unreflectConstructor(target.constructor)
+                    .asSpreader(Object[].class, target.fields.length)
+                    .asType(MethodType.methodType(Object.class, Object[].class));
+            return new Plan(constructor, columns.toArray(new RowColumn[0]),
+                    positions.stream().mapToInt(Integer::intValue).toArray(), defaultArguments);
+        }
 
-                    Object value = rs.getObject(columnName);
-                    if (value != null) {
-                        field.setAccessible(true);
-                        field.set(instance, value);
+        /**
+         * 按列标签解析每个字段的列下标（从 1 开始，0 表示结果集中没有该列）
+         */
+        int[] resolve(ResultSetMetaData metaData) throws SQLException {
+            Map<String, Integer> labels = new HashMap<>();
+            for (int i = metaData.getColumnCount(); i >= 1; i--) {
+                // 倒序写入，重名列取第一个
+                labels.put(JdbcUtils.lookupColumnName(metaData, i).toLowerCase(Locale.ROOT), i);
+            }
+            int[] indices = new int[columns.length];
+            for (int i = 0; i < columns.length; i++) {
+                for (String candidate : columns[i].candidates) {
+                    Integer index = labels.get(candidate);
+                    if (index != null) {
+                        indices[i] = index;
+                        break;
                     }
                 }
             }
+            return indices;
+        }
+    }
 
-            return instance;
-        } catch (Exception e) {
-            throw new SQLException("Failed to map row to " + targetType.getSimpleName(), e);
+    /**
+     * 单个字段的列绑定
+     */
+    private abstract static class RowColumn {
+
+        /**
+         * 候选列名（小写）
+         */
+        final String[] candidates;
+
+        RowColumn(String[] candidates) {
+            this.candidates = candidates;
+        }
+
+        abstract void bind(Object instance, ResultSet rs, int index) throws Throwable;
+
+        /**
+         * 读取列值（构造器模式），返回 null 表示 SQL NULL
+         */
+        abstract Object read(ResultSet rs, int index) throws SQLException;
+
+        /**
+         * @param setter 字段写入的 MethodHandle；构造器模式为 null（只读取列值）
+         */
+        static RowColumn of(Field field, MethodHandle setter) {
+            String[] candidates = FileColumnNames.candidates(field);
+            Class<?> type = field.getType();
+            if (setter == null) {
+                return new ObjectColumn(candidates, getter(type), null);
+            }
+            if (type == int.class) {
+                return new IntColumn(candidates, setter.asType(MethodType.methodType(void.class, Object.class, int.class)));
+            }
+            if (type == long.class) {
+                return new LongColumn(candidates, setter.asType(MethodType.methodType(void.class, Object.class, long.class)));
+            }
+            return new ObjectColumn(candidates, getter(type),
+                    setter.asType(MethodType.methodType(void.class, Object.class, Object.class)));
+        }
+
+        /**
+         * 按字段类型选定类型化 getter，返回 null 表示 SQL NULL
+         */
+        private static ColumnGetter getter(Class<?> type) {
+            if (type == String.class) {
+                return ResultSet::getString;
+            }
+            if (type == Integer.class || type == int.class) {
+                return (rs, i) -> {
+                    int value = rs.getInt(i);
+                    return rs.wasNull() ? null : value;
+                };
+            }
+            if (type == Long.class || type == long.class) {
+                return (rs, i) -> {
+                    long value = rs.getLong(i);
+                    return rs.wasNull() ? null : value;
+                };
+            }
+            if (type == Double.class || type == double.class) {
+                return (rs, i) -> {
+                    double value = rs.getDouble(i);
+                    return rs.wasNull() ? null : value;
+                };
+            }
+            if (type == Boolean.class || type == boolean.class) {
+                return (rs, i) -> {
+                    boolean value = rs.getBoolean(i);
+                    return rs.wasNull() ? null : value;
+                };
+            }
+            if (type == BigDecimal.class) {
+                return ResultSet::getBigDecimal;
+            }
+            if (type == java.sql.Date.class) {
+                return ResultSet::getDate;
+            }
+            if (type == Date.class || type == java.sql.Timestamp.class) {
+                return ResultSet::getTimestamp;
+            }
+            if (type == LocalDate.class || type == LocalDateTime.class) {
+                return (rs, i) -> rs.getObject(i, type);
+            }
+            return (rs, i) -> JdbcUtils.getResultSetValue(rs, i, type);
+        }
+    }
+
+    @FunctionalInterface
+    private interface ColumnGetter {
+        Object get(ResultSet rs, int index) throws SQLException;
+    }
+
+    private static final class ObjectColumn extends RowColumn {
+
+        private final ColumnGetter getter;
+        private final MethodHandle setter;
+
+        ObjectColumn(String[] candidates, ColumnGetter getter, MethodHandle setter) {
+            super(candidates);
+            this.getter = getter;
+            this.setter = setter;
+        }
+
+        @Override
+        void bind(Object instance, ResultSet rs, int index) throws Throwable {
+            Object value = getter.get(rs, index);
+            if (value != null) {
+                setter.invokeExact(instance, value);
+            }
+        }
+
+        @Override
+        Object read(ResultSet rs, int index) throws SQLException {
+            return getter.get(rs, index);
+        }
+    }
+
+    /**
+     * int 字段：getInt 直接以基本类型写入，不装箱
+     */
+    private static final class IntColumn extends RowColumn {
+
+        private final MethodHandle setter;
+
+        IntColumn(String[] candidates, MethodHandle setter) {
+            super(candidates);
+            this.setter = setter;
+        }
+
+        @Override
+        void bind(Object instance, ResultSet rs, int index) throws Throwable {
+            int value = rs.getInt(index);
+            if (!rs.wasNull()) {
+                setter.invokeExact(instance, value);
+            }
+        }
+
+        @Override
+        Object read(ResultSet rs, int index) throws SQLException {
+            int value = rs.getInt(index);
+            return rs.wasNull() ? null : value;
+        }
+    }
+
+    /**
+     * long 字段：getLong 直接以基本类型写入，不装箱
+     */
+    private static final class LongColumn extends RowColumn {
+
+        private final MethodHandle setter;
+
+        LongColumn(String[] candidates, MethodHandle setter) {
+            super(candidates);
+            this.setter = setter;
+        }
+
+        @Override
+        void bind(Object instance, ResultSet rs, int index) throws Throwable {
+            long value = rs.getLong(index);
+            if (!rs.wasNull()) {
+                setter.invokeExact(instance, value);
+            }
+        }
+
+        @Override
+        Object read(ResultSet rs, int index) throws SQLException {
+            long value = rs.getLong(index);
+            return rs.wasNull() ? null : value;
         }
     }
 }
@@ -0,0 +1,92 @@
+package com.batchweaver.core.fileprocess.reader;
+
+import org.springframework.core.io.Resource;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * 从文件末尾反向定位最后一个非空行（Footer 候选行）
+ * <p>
+ * 只读取文件尾部的小窗口（默认 8KB，行更长时自动扩大），不扫描文件正文。
+ * 仅适用于文件资源（{@link Resource#isFile()}）。
+ */
+final class FooterLocator {
+
+    private static final int INITIAL_WINDOW_SIZE = 8 * 1024;
+
+    private FooterLocator() {
+    }
+
+    /**
+     * 最后一个非空行
+     *
+     * @param startOffset 行首字节偏移量
+     * @param line        行内容（不含行结束符）
+     */
+    record TailLine(long startOffset, String line) {
+    }
+
+    /**
+     * 定位最后一个非空行
+     *
+     * @return 最后一个非空行，文件为空或全部为空行时返回 null
+     */
+    static TailLine locateLastLine(Resource resource, Charset charset) throws IOException {
+        if (!resource.isFile()) {
+            throw new IOException("Footer-first mode requires a file resource: " + resource);
+        }
+        try (FileChannel channel = FileChannel.open(resource.getFile().toPath(), StandardOpenOption.READ)) {
+            long size = channel.size();
+            long window = INITIAL_WINDOW_SIZE;
+            while (true) {
+                long windowStart = Math.max(0, size - window);
+                byte[] bytes = readFully(channel, windowStart, (int) (size - windowStart));
+
+                int end = bytes.length;
+                while (end > 0) {
+                    // 跳过行结束符
+                    int lineEnd = end;
+                    while (lineEnd > 0 && isLineBreak(bytes[lineEnd - 1])) {
+                        lineEnd--;
+                    }
+                    int lineStart = lineEnd;
+                    while (lineStart > 0 && !isLineBreak(bytes[lineStart - 1])) {
+                        lineStart--;
+                    }
+                    if (lineStart == 0 && windowStart > 0) {
+                        // 行可能从窗口之前开始，扩大窗口重新读取
+                        break;
+                    }
+                    String line = new String(bytes, lineStart, lineEnd - lineStart, charset);
+                    if (!line.isBlank()) {
+                        return new TailLine(windowStart + lineStart, line);
+                    }
+                    end = lineStart;
+                }
+
+                if (windowStart == 0 && end == 0) {
+                    return null;
+                }
+                window *= 2;
+            }
+        }
+    }
+
+    private static boolean isLineBreak(byte b) {
+        return b == '\n' || b == '\r';
+    }
+
+    private static byte[] readFully(FileChannel channel, long offset, int length) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(length);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, offset + buffer.position()) < 0) {
+                break;
+            }
+        }
+        return buffer.array();
+    }
+}
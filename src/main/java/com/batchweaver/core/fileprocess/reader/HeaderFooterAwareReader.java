@@ -4,8 +4,14 @@ import com.batchweaver.core.fileprocess.function.FooterParser;
 import com.batchweaver.core.fileprocess.function.FooterValidator;
 import com.batchweaver.core.fileprocess.function.HeaderParser;
 import com.batchweaver.core.fileprocess.function.HeaderValidator;
+import com.batchweaver.core.fileprocess.function.LinePredicate;
 import com.batchweaver.core.fileprocess.model.FooterInfo;
 import com.batchweaver.core.fileprocess.model.HeaderInfo;
+import com.batchweaver.core.fileprocess.partition.LineAlignedFilePartitioner;
+import com.batchweaver.core.fileprocess.reader.source.LineSource;
+import com.batchweaver.core.fileprocess.reader.source.LineSources;
+import com.batchweaver.core.fileprocess.reader.source.RawLine;
+import com.batchweaver.core.fileprocess.reader.source.StreamLineSource;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.batch.core.StepExecution;
@@ -18,10 +24,12 @@ import org.springframework.batch.item.file.mapping.FieldSetMapper;
 import org.springframework.batch.item.file.transform.LineTokenizer;
 import org.springframework.core.io.Resource;
 
-import java.io.BufferedReader;
-import java.io.InputStreamReader;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Objects;
 
 /**
@@ -59,6 +67,30 @@ import java.util.Objects;
  *   <li>O(1)内存占用 - 只缓存两行数据</li>
  *   <li>适合超大文件（GB级）处理</li>
  * </ul>
+ * <p>
+ * <b>断点续读：</b>每次提交后将字节偏移量、行号、延迟行（prevLine）和已处理记录数写入 Step ExecutionContext，
+ * 重启时直接定位到上次提交的字节位置继续读取，无需重新扫描已处理的部分。
+ * <p>
+ * <b>读取后端：</b>通过 {@link #setLineSource(LineSource)} 切换，默认按扩展名选择（见 {@link LineSources}）：
+ * .gz / .zip 资源流式解压读取，其余使用 {@link StreamLineSource}；超大文件可使用 FileChannel / 内存映射后端，在字节层面查找换行符。
+ * 文件字符集通过 {@link #setCharset(Charset)} 指定（默认 UTF-8）。
+ * <p>
+ * <b>引号字段：</b>{@link #setQuoteCharacter(Character)} 开启后按 RFC 4180 扫描记录，引号内的分隔符和换行符属于字段内容，
+ * 跨越多个物理行的记录作为一条记录参与 Header / 延迟 Footer 判定和记录数统计；不含引号的数据区域仍走普通的换行符扫描。
+ * 压缩资源的检查点同时记录解压后的字节偏移量（用于续读）和已消费的压缩字节数（{@link #SOURCE_BYTE_OFFSET_KEY}，用于进度上报）。
+ * <p>
+ * <b>分区读取：</b>当 ExecutionContext 中包含 {@link LineAlignedFilePartitioner} 写入的字节范围时，
+ * 只读取 [startOffset, endOffset) 范围内的行；只有第一个分区处理 Header，只有最后一个分区处理 Footer，
+ * Footer 记录数校验交由 Master Step 汇总全部分区后执行。分区模式下 Reader 必须是 @StepScope。
+ * <p>
+ * <b>Footer 前置模式：</b>{@link #setFooterFirst(boolean)} 开启后，open() 时从文件末尾反向定位并解析 Footer，
+ * 读取范围截止到 Footer 行首，不再需要逐行延迟决策；传输中被截断（缺少 Footer）的文件在写入任何数据之前即被拒绝。
+ * <p>
+ * <b>行过滤：</b>{@link #setLinePredicate(LinePredicate)} 在分词之前按原始行过滤数据行（如混合记录类型的文件只保留一种），
+ * 被过滤的行单独计数（{@link #FILTERED_RECORD_COUNT_KEY}），Footer 按"处理数 + 过滤数"校验。
+ * <p>
+ * <b>多记录类型：</b>使用 {@link RecordTypeRouter} 构造时，每一行按类型前缀分派给对应的分词器 / 映射器，
+ * 一次扫描读出所有类型，并按类型计数（{@link #RECORD_TYPE_COUNTS_KEY}），随合计数一起交给 {@link FooterValidator}。
  *
  * @param <T> item type
  * @see <a href="https://github.com/spring-projects/spring-batch">Spring Batch</a>
@@ -70,12 +102,19 @@ public class HeaderFooterAwareReader<T> implements ItemReader<T>, ItemStream {
     public static final String FOOTER_INFO_KEY = "footerInfo";
     public static final String DECLARED_RECORD_COUNT_KEY = "declaredRecordCount";
     public static final String ACTUAL_RECORD_COUNT_KEY = "actualRecordCount";
+    public static final String FILTERED_RECORD_COUNT_KEY = "filteredRecordCount";
+    public static final String RECORD_TYPE_COUNTS_KEY = "recordTypeCounts";
+    public static final String BYTE_OFFSET_KEY = "byteOffset";
+    public static final String SOURCE_BYTE_OFFSET_KEY = "sourceByteOffset";
+    public static final String LINE_NUMBER_KEY = "lineNumber";
+    public static final String PREV_LINE_KEY = "prevLine";
+    public static final String FIRST_LINE_READ_KEY = "firstLineRead";
 
     // ============================================================================
     // 核心状态 - 延迟决策的关键
     // ============================================================================
     private final Resource resource;
-    private final Charset charset;
+    private Charset charset = StandardCharsets.UTF_8;
     private final HeaderParser headerParser;
     private final HeaderValidator headerValidator;
     private final FooterParser footerParser;
@@ -84,6 +123,11 @@ public class HeaderFooterAwareReader<T> implements ItemReader<T>, ItemStream {
     private final LineTokenizer lineTokenizer;
     private final FieldSetMapper<T> fieldSetMapper;
 
+    /**
+     * 多记录类型路由（设置时替代 lineTokenizer / fieldSetMapper）
+     */
+    private final RecordTypeRouter<T> recordTypeRouter;
+
     /**
      * 上一行（延迟处理）
      * <p>
@@ -101,15 +145,91 @@ public class HeaderFooterAwareReader<T> implements ItemReader<T>, ItemStream {
      */
     private boolean firstLineRead = false;
 
+    /**
+     * 读取范围的结束字节偏移量（不含），-1 表示读到文件末尾
+     */
+    private long endOffset = -1;
+
+    /**
+     * 当前范围是否包含Header / Footer（分区模式下仅首/尾分区为 true）
+     */
+    private boolean headerExpected = true;
+    private boolean footerExpected = true;
+
+    /**
+     * 是否为分区读取（Footer 校验交由 Master Step 汇总后执行）
+     */
+    private boolean partitioned = false;
+
+    /**
+     * 是否在 open() 时预先定位并解析 Footer（Footer 前置模式）
+     */
+    private boolean footerFirst = false;
+
+    /**
+     * Footer 是否已在 open() 时定位（为 true 时不再延迟决策）
+     */
+    private boolean footerResolved = false;
+
+    /**
+     * Footer 前置模式下是否已执行过 Footer 校验
+     */
+    private boolean footerValidated = false;
+
     /**
      * 实际处理的记录数（用于Footer校验）
      */
     private long actualRecordCount = 0;
 
     /**
-     * 原始BufferedReader（用于读取文件）
+     * 被行过滤器丢弃的数据行数（Footer 校验时与实际处理数合计）
+     */
+    private long filteredRecordCount = 0;
+
+    /**
+     * 本次读取的数据行是否被过滤（read() 据此继续读取下一行）
+     */
+    private boolean lineFiltered = false;
+
+    /**
+     * 原始行过滤器（可选）
+     */
+    private LinePredicate linePredicate;
+
+    /**
+     * 按记录类型统计的实际处理数（仅多记录类型模式）
+     */
+    private final Map<String, Long> recordTypeCounts = new LinkedHashMap<>();
+
+    /**
+     * 最近一次处理的行的记录类型（仅多记录类型模式）
+     */
+    private String lastRecordType;
+
+    /**
+     * 已读取的物理行数（含Header）
+     */
+    private long lineNumber = 0;
+
+    /**
+     * 是否将读取位置保存到 ExecutionContext（支持断点续读）
+     */
+    private boolean saveState = true;
+
+    /**
+     * 行数据源（字节级读取，记录字节偏移量），未设置时在 open() 时按资源扩展名选择
      */
-    private BufferedReader reader;
+    private LineSource lineSource;
+
+    /**
+     * 引号字符（null 表示按物理行读取）
+     */
+    private Character quoteCharacter;
+
+    /**
+     * 行数据源是否已打开
+     */
+    private boolean opened = false;
 
     /**
      * StepExecution（用于获取 JobExecutionContext）
@@ -162,15 +282,56 @@ public class HeaderFooterAwareReader<T> implements ItemReader<T>, ItemStream {
                                    LineTokenizer lineTokenizer,
                                    FieldSetMapper<T> fieldSetMapper,
                                    FooterLineDetector footerLineDetector) {
+        this(resource, headerParser, headerValidator, footerParser, footerValidator,
+                Objects.requireNonNull(lineTokenizer, "lineTokenizer must not be null"),
+                Objects.requireNonNull(fieldSetMapper, "fieldSetMapper must not be null"),
+                null, footerLineDetector);
+    }
+
+    /**
+     * 创建多记录类型Reader（按类型前缀路由到各自的分词器 / 映射器，见 {@link RecordTypeRouter}）
+     */
+    public HeaderFooterAwareReader(Resource resource,
+                                   HeaderParser headerParser,
+                                   HeaderValidator headerValidator,
+                                   FooterParser footerParser,
+                                   FooterValidator footerValidator,
+                                   RecordTypeRouter<T> recordTypeRouter) {
+        this(resource, headerParser, headerValidator, footerParser, footerValidator, recordTypeRouter, null);
+    }
+
+    /**
+     * 创建多记录类型Reader（自定义Footer检测器）
+     */
+    public HeaderFooterAwareReader(Resource resource,
+                                   HeaderParser headerParser,
+                                   HeaderValidator headerValidator,
+                                   FooterParser footerParser,
+                                   FooterValidator footerValidator,
+                                   RecordTypeRouter<T> recordTypeRouter,
+                                   FooterLineDetector footerLineDetector) {
+        this(resource, headerParser, headerValidator, footerParser, footerValidator, null, null,
+                Objects.requireNonNull(recordTypeRouter, "recordTypeRouter must not be null"), footerLineDetector);
+    }
+
+    private HeaderFooterAwareReader(Resource resource,
+                                    HeaderParser headerParser,
+                                    HeaderValidator headerValidator,
+                                    FooterParser footerParser,
+                                    FooterValidator footerValidator,
+                                    LineTokenizer lineTokenizer,
+                                    FieldSetMapper<T> fieldSetMapper,
+                                    RecordTypeRouter<T> recordTypeRouter,
+                                    FooterLineDetector footerLineDetector) {
         this.resource = Objects.requireNonNull(resource, "resource must not be null");
         this.headerParser = headerParser;
         this.headerValidator = headerValidator;
         this.footerParser = footerParser;
         this.footerValidator = footerValidator;
         this.footerLineDetector = footerLineDetector;
-        this.lineTokenizer = Objects.requireNonNull(lineTokenizer, "lineTokenizer must not be null");
-        this.fieldSetMapper = Objects.requireNonNull(fieldSetMapper, "fieldSetMapper must not be null");
-        this.charset = StandardCharsets.UTF_8;
+        this.lineTokenizer = lineTokenizer;
+        this.fieldSetMapper = fieldSetMapper;
+        this.recordTypeRouter = recordTypeRouter;
 
         // 配置校验：如果有 footerValidator 或自定义 detector，必须有 footerParser
         if ((footerValidator != null || footerLineDetector != null) && footerParser == null) {
@@ -195,6 +356,20 @@ public class HeaderFooterAwareReader<T> implements ItemReader<T>, ItemStream {
      */
     @Override
     public T read() throws Exception {
+        // 被行过滤器丢弃的行不返回，循环读取下一行（不递归，避免连续大量过滤行时栈溢出）
+        T item;
+        do {
+            lineFiltered = false;
+            item = isFooterDeferred() ? readDeferred() : readDirect();
+        } while (item == null && lineFiltered);
+        return item;
+    }
+
+    /**
+     * 延迟决策模式读取
+     */
+    private T readDeferred() throws Exception {
+
         // 读取下一行
         currentLine = readRawLine();
 
@@ -207,25 +382,7 @@ public class HeaderFooterAwareReader<T> implements ItemReader<T>, ItemStream {
         if (!firstLineRead) {
             firstLineRead = true;
             if (isHeaderLine(currentLine)) {
-                log.debug("First line detected as header: {}", currentLine);
-                // 解析Header
-                if (headerParser != null) {
-                    try {
-                        headerInfo = headerParser.parse(currentLine);
-                        log.info("Header parsed: {}", headerInfo);
-                    } catch (Exception e) {
-                        throw new ItemStreamException("Header parsing failed: " + e.getMessage(), e);
-                    }
-                }
-                // 校验Header（Reader自包含）
-                if (headerValidator != null) {
-                    try {
-                        headerValidator.validate(headerInfo);
-                        log.info("Header validation passed");
-                    } catch (Exception e) {
-                        throw new ItemStreamException("Header validation failed: " + e.getMessage(), e);
-                    }
-                }
+                handleHeader(currentLine);
                 // 清空prevLine，继续读取下一行
                 prevLine = null;
                 return read();  // 递归调用以获取第一行数据
@@ -238,10 +395,15 @@ public class HeaderFooterAwareReader<T> implements ItemReader<T>, ItemStream {
         // 有prevLine，确认它不是Footer，处理后返回
         if (prevLine != null) {
             String lineToProcess = prevLine;
+            if (filtered(lineToProcess)) {
+                prevLine = currentLine;
+                return null;
+            }
             // 先处理，成功后再前移状态（支持 retry）
             T result = processLine(lineToProcess);
             prevLine = currentLine;  // 处理成功后才缓存当前行
             actualRecordCount++;
+            countRecordType();
             return result;
         }
 
@@ -267,36 +429,155 @@ public class HeaderFooterAwareReader<T> implements ItemReader<T>, ItemStream {
             // 是Footer，进行解析和校验（Reader自包含）
             log.info("Last line detected as footer: {}", lineToProcess);
             if (footerParser != null) {
-                try {
-                    footerInfo = footerParser.parse(lineToProcess);
-                    log.info("Footer parsed: {} (actual count: {})", footerInfo, actualRecordCount);
-
-                    // 立即将 FooterInfo 存储到 Job ExecutionContext
-                    if (stepExecution != null) {
-                        ExecutionContext jobContext = stepExecution.getJobExecution().getExecutionContext();
-                        jobContext.put(FOOTER_INFO_KEY, footerInfo);
-                        jobContext.putLong(DECLARED_RECORD_COUNT_KEY, footerInfo.getCount());
-                        log.debug("FooterInfo stored to JobExecutionContext: count={}", footerInfo.getCount());
-                    }
-                } catch (Exception e) {
-                    throw new ItemStreamException("Footer parsing failed: " + e.getMessage(), e);
-                }
-                // 校验Footer（Reader自包含）
-                if (footerValidator != null) {
-                    try {
-                        footerValidator.validate(footerInfo, actualRecordCount);
-                        log.info("Footer validation passed: expected={}, actual={}",
-                                footerInfo.getCount(), actualRecordCount);
-                    } catch (Exception e) {
-                        throw new ItemStreamException("Footer validation failed: " + e.getMessage(), e);
-                    }
-                }
+                parseFooter(lineToProcess);
+                validateFooter();
             }
             return null;  // Footer不作为数据返回
+        } else if (filtered(lineToProcess)) {
+            return null;
         } else {
             // 不是Footer，作为数据行处理
             actualRecordCount++;
-            return processLine(lineToProcess);
+            T result = processLine(lineToProcess);
+            countRecordType();
+            return result;
+        }
+    }
+
+    /**
+     * 直接读取模式 - 读取范围内不含Footer，无需延迟决策
+     * <p>
+     * 适用于：未配置 footerParser、非最后一个分区、Footer 已在 open() 时前置定位
+     */
+    private T readDirect() throws Exception {
+        String line;
+        boolean tested = false;
+        if (prevLine != null) {
+            // 从延迟决策模式的检查点恢复时，先处理缓存的行
+            line = prevLine;
+            prevLine = null;
+        } else {
+            RawLine raw = nextRawLine();
+            if (raw != null && firstLineRead) {
+                // 按原始字节过滤，被丢弃的行不解码
+                if (filtered(raw)) {
+                    return null;
+                }
+                tested = true;
+            }
+            line = raw == null ? null : raw.decode();
+        }
+
+        if (line == null) {
+            // Footer 前置模式：数据读取完毕后用实际记录数校验一次
+            if (footerResolved && !footerValidated) {
+                footerValidated = true;
+                validateFooter();
+            }
+            return null;
+        }
+
+        if (!firstLineRead) {
+            firstLineRead = true;
+            if (isHeaderLine(line)) {
+                handleHeader(line);
+                return read();
+            }
+        }
+
+        if (!tested && filtered(line)) {
+            return null;
+        }
+        T result = processLine(line);
+        actualRecordCount++;
+        countRecordType();
+        return result;
+    }
+
+    /**
+     * 多记录类型模式：按最近处理的行的类型计数
+     */
+    private void countRecordType() {
+        if (lastRecordType != null) {
+            recordTypeCounts.merge(lastRecordType, 1L, Long::sum);
+            lastRecordType = null;
+        }
+    }
+
+    /**
+     * 行过滤：被拒绝时计数并标记，由 read() 继续读取下一行
+     */
+    private boolean filtered(String line) {
+        return linePredicate != null && filtered(new DecodedLine(line, charset));
+    }
+
+    private boolean filtered(RawLine line) {
+        if (linePredicate == null || linePredicate.test(line)) {
+            return false;
+        }
+        filteredRecordCount++;
+        lineFiltered = true;
+        return true;
+    }
+
+    /**
+     * 解析并校验Header（Reader自包含）
+     */
+    private void handleHeader(String line) {
+        log.debug("First line detected as header: {}", line);
+        // 解析Header
+        if (headerParser != null) {
+            try {
+                headerInfo = headerParser.parse(line);
+                log.info("Header parsed: {}", headerInfo);
+            } catch (Exception e) {
+                throw new ItemStreamException("Header parsing failed: " + e.getMessage(), e);
+            }
+        }
+        // 校验Header（Reader自包含）
+        if (headerValidator != null) {
+            try {
+                headerValidator.validate(headerInfo);
+                log.info("Header validation passed");
+            } catch (Exception e) {
+                throw new ItemStreamException("Header validation failed: " + e.getMessage(), e);
+            }
+        }
+    }
+
+    /**
+     * 解析Footer，并立即存储到 Job ExecutionContext
+     */
+    private void parseFooter(String line) {
+        try {
+            footerInfo = footerParser.parse(line);
+            log.info("Footer parsed: {} (actual count: {}, filtered: {})", footerInfo, actualRecordCount, filteredRecordCount);
+
+            // 立即将 FooterInfo 存储到 Job ExecutionContext
+            if (stepExecution != null) {
+                ExecutionContext jobContext = stepExecution.getJobExecution().getExecutionContext();
+                jobContext.put(FOOTER_INFO_KEY, footerInfo);
+                jobContext.putLong(DECLARED_RECORD_COUNT_KEY, footerInfo.getCount());
+                log.debug("FooterInfo stored to JobExecutionContext: count={}", footerInfo.getCount());
+            }
+        } catch (Exception e) {
+            throw new ItemStreamException("Footer parsing failed: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 校验Footer（Reader自包含；分区模式下由 Master Step 汇总全部分区后校验）
+     */
+    private void validateFooter() {
+        if (footerValidator == null || partitioned) {
+            return;
+        }
+        try {
+            footerValidator.validate(footerInfo, actualRecordCount + filteredRecordCount, getRecordTypeCounts());
+            log.info("Footer validation passed: expected={}, actual={}, filtered={}",
+                    footerInfo.getCount(), actualRecordCount, filteredRecordCount);
+        } catch (Exception e) {
+            throw new ItemStreamException("Footer validation failed: " + e.getMessage(), e);
         }
     }
 
@@ -322,16 +603,106 @@ public class HeaderFooterAwareReader<T> implements ItemReader<T>, ItemStream {
     @Override
     public void open(ExecutionContext executionContext) throws ItemStreamException {
         try {
-            log.debug("Opening resource: {}", resource);
-            reader = new BufferedReader(
-                    new InputStreamReader(resource.getInputStream(), charset));
             // 重置所有状态
             resetState();
+
+            long startOffset = 0;
+            if (executionContext != null && executionContext.containsKey(LineAlignedFilePartitioner.START_OFFSET_KEY)) {
+                startOffset = applyPartition(executionContext);
+            }
+            if (saveState && executionContext != null && executionContext.containsKey(BYTE_OFFSET_KEY)) {
+                startOffset = restoreState(executionContext);
+                log.info("Restarting resource: {} from byte offset {} (line: {}, actual records: {})",
+                        resource, startOffset, lineNumber, actualRecordCount);
+            } else {
+                log.debug("Opening resource: {}", resource);
+            }
+            if (lineSource == null) {
+                lineSource = LineSources.forResource(resource);
+            }
+            if (quoteCharacter != null) {
+                if (partitioned) {
+                    throw new ItemStreamException("Quoted records are not supported with byte-range partitioning: " + resource);
+                }
+                if (!lineSource.supportsQuotedRecords()) {
+                    throw new ItemStreamException("Line source " + lineSource.getClass().getSimpleName()
+                            + " does not support quoted records: " + resource);
+                }
+                lineSource.setQuoteCharacter((byte) quoteCharacter.charValue());
+            }
+            if (footerFirst && footerParser != null && footerExpected) {
+                if (lineSource.isSeekable()) {
+                    locateFooter();
+                } else {
+                    log.warn("Footer-first mode requires a seekable resource, falling back to deferred footer detection: {}", resource);
+                }
+            }
+            lineSource.open(resource, charset, startOffset);
+            opened = true;
+        } catch (ItemStreamException e) {
+            throw e;
         } catch (Exception e) {
             throw new ItemStreamException("Failed to open resource: " + resource, e);
         }
     }
 
+    /**
+     * Footer 前置模式：从文件末尾反向定位最后一个非空行并按 Footer 解析
+     * <p>
+     * 最后一行不是 Footer 时视为文件不完整（如传输中被截断），直接拒绝
+     */
+    private void locateFooter() throws Exception {
+        FooterLocator.TailLine tail = FooterLocator.locateLastLine(resource, charset);
+        if (tail == null || !isFooterLine(tail.line())) {
+            throw new ItemStreamException("Footer not found at end of resource (file may be truncated): " + resource);
+        }
+        log.info("Footer located at byte offset {}: {}", tail.startOffset(), tail.line());
+        parseFooter(tail.line());
+        endOffset = endOffset >= 0 ? Math.min(endOffset, tail.startOffset()) : tail.startOffset();
+        footerResolved = true;
+    }
+
+    /**
+     * 应用分区器写入的字节范围
+     *
+     * @return 分区起始字节偏移量
+     */
+    private long applyPartition(ExecutionContext executionContext) {
+        partitioned = true;
+        endOffset = executionContext.getLong(LineAlignedFilePartitioner.END_OFFSET_KEY);
+        headerExpected = Boolean.TRUE.equals(executionContext.get(LineAlignedFilePartitioner.FIRST_PARTITION_KEY));
+        footerExpected = Boolean.TRUE.equals(executionContext.get(LineAlignedFilePartitioner.LAST_PARTITION_KEY));
+        long startOffset = executionContext.getLong(LineAlignedFilePartitioner.START_OFFSET_KEY);
+        log.info("Reading partition {} of {}: bytes [{}, {}) header={}, footer={}",
+                executionContext.getInt(LineAlignedFilePartitioner.PARTITION_INDEX_KEY, 0),
+                executionContext.getInt(LineAlignedFilePartitioner.PARTITION_COUNT_KEY, 1),
+                startOffset, endOffset, headerExpected, footerExpected);
+        return startOffset;
+    }
+
+    /**
+     * 从 ExecutionContext 恢复上次提交时的读取状态
+     *
+     * @return 需要定位到的字节偏移量
+     */
+    private long restoreState(ExecutionContext executionContext) {
+        lineNumber = executionContext.getLong(LINE_NUMBER_KEY, 0L);
+        actualRecordCount = executionContext.getLong(ACTUAL_RECORD_COUNT_KEY, 0L);
+        filteredRecordCount = executionContext.getLong(FILTERED_RECORD_COUNT_KEY, 0L);
+        if (executionContext.get(RECORD_TYPE_COUNTS_KEY) instanceof Map<?, ?> savedCounts) {
+            savedCounts.forEach((type, count) -> recordTypeCounts.put((String) type, (Long) count));
+        }
+        firstLineRead = Boolean.TRUE.equals(executionContext.get(FIRST_LINE_READ_KEY));
+        prevLine = executionContext.containsKey(PREV_LINE_KEY) ? executionContext.getString(PREV_LINE_KEY) : null;
+        if (executionContext.get(HEADER_INFO_KEY) instanceof HeaderInfo savedHeader) {
+            headerInfo = savedHeader;
+        }
+        if (executionContext.get(FOOTER_INFO_KEY) instanceof FooterInfo savedFooter) {
+            footerInfo = savedFooter;
+        }
+        return executionContext.getLong(BYTE_OFFSET_KEY);
+    }
+
     /**
      * 重置所有状态字段
      */
@@ -340,6 +711,16 @@ public class HeaderFooterAwareReader<T> implements ItemReader<T>, ItemStream {
         currentLine = null;
         firstLineRead = false;
         actualRecordCount = 0;
+        filteredRecordCount = 0;
+        recordTypeCounts.clear();
+        lastRecordType = null;
+        lineNumber = 0;
+        endOffset = -1;
+        headerExpected = true;
+        footerExpected = true;
+        partitioned = false;
+        footerResolved = false;
+        footerValidated = false;
         headerInfo = HeaderInfo.empty();
         footerInfo = FooterInfo.empty();
     }
@@ -356,16 +737,96 @@ public class HeaderFooterAwareReader<T> implements ItemReader<T>, ItemStream {
                 executionContext.putLong(DECLARED_RECORD_COUNT_KEY, footerInfo.getCount());
             }
             executionContext.putLong(ACTUAL_RECORD_COUNT_KEY, actualRecordCount);
+            executionContext.putLong(FILTERED_RECORD_COUNT_KEY, filteredRecordCount);
+            if (recordTypeRouter != null) {
+                executionContext.put(RECORD_TYPE_COUNTS_KEY, new HashMap<>(recordTypeCounts));
+            }
+
+            // 断点续读状态：下一行的字节偏移量 + 尚未确认的延迟行
+            if (saveState && opened) {
+                executionContext.putLong(BYTE_OFFSET_KEY, lineSource.position());
+                executionContext.putLong(SOURCE_BYTE_OFFSET_KEY, lineSource.sourcePosition());
+                executionContext.putLong(LINE_NUMBER_KEY, lineNumber);
+                executionContext.put(FIRST_LINE_READ_KEY, firstLineRead);
+                if (prevLine != null) {
+                    executionContext.putString(PREV_LINE_KEY, prevLine);
+                } else {
+                    executionContext.remove(PREV_LINE_KEY);
+                }
+            }
         }
     }
 
+    /**
+     * 设置行数据源（默认按资源扩展名选择，见 {@link LineSources#forResource}）
+     */
+    public void setLineSource(LineSource lineSource) {
+        this.lineSource = Objects.requireNonNull(lineSource, "lineSource must not be null");
+    }
+
+    /**
+     * 设置文件字符集（默认 UTF-8）
+     * <p>
+     * 仅支持兼容 ASCII 的字符集（如 GBK / GB18030），行结束符按单字节 \n、\r 查找；
+     * GBK / GB18030 等多字节字符集只对非 ASCII 区段调用解码器
+     */
+    public void setCharset(Charset charset) {
+        this.charset = Objects.requireNonNull(charset, "charset must not be null");
+    }
+
+    /**
+     * 设置引号字符，开启引号感知的记录扫描（默认 null，按物理行读取）
+     * <p>
+     * 引号内的换行符不作为记录结束符；需配合能处理引号的分词器（如 {@link com.batchweaver.core.fileprocess.tokenizer.FastDelimitedLineTokenizer}）
+     */
+    public void setQuoteCharacter(Character quoteCharacter) {
+        if (quoteCharacter != null && quoteCharacter >= 0x80) {
+            throw new IllegalArgumentException("quoteCharacter must be an ASCII character");
+        }
+        this.quoteCharacter = quoteCharacter;
+    }
+
+    /**
+     * 按记录类型统计的实际处理数（仅多记录类型模式，否则为空）
+     */
+    public Map<String, Long> getRecordTypeCounts() {
+        return Collections.unmodifiableMap(recordTypeCounts);
+    }
+
+    /**
+     * 设置原始行过滤器（默认 null，不过滤）
+     * <p>
+     * 只作用于数据行，在分词之前执行；被丢弃的行计入 {@link #FILTERED_RECORD_COUNT_KEY}
+     */
+    public void setLinePredicate(LinePredicate linePredicate) {
+        this.linePredicate = linePredicate;
+    }
+
+    /**
+     * 是否开启 Footer 前置模式（默认 false，仅适用于未压缩的文件资源）
+     * <p>
+     * 开启后在 open() 时反向定位并解析 Footer，缺少 Footer 的文件在写入任何数据之前即被拒绝
+     */
+    public void setFooterFirst(boolean footerFirst) {
+        this.footerFirst = footerFirst;
+    }
+
+    /**
+     * 是否保存读取位置以支持断点续读（默认 true）
+     * <p>
+     * 关闭后每次 open() 都从文件开头读取
+     */
+    public void setSaveState(boolean saveState) {
+        this.saveState = saveState;
+    }
+
     @Override
     public void close() throws ItemStreamException {
         try {
-            if (reader != null) {
+            if (opened) {
                 log.debug("Closing resource: {} (actual records: {})", resource, actualRecordCount);
-                reader.close();
-                reader = null;
+                opened = false;
+                lineSource.close();
             }
         } catch (Exception e) {
             throw new ItemStreamException("Failed to close resource: " + resource, e);
@@ -380,15 +841,37 @@ public class HeaderFooterAwareReader<T> implements ItemReader<T>, ItemStream {
      * 读取原始行
      */
     private String readRawLine() throws Exception {
-        return reader != null ? reader.readLine() : null;
+        RawLine line = nextRawLine();
+        return line == null ? null : line.decode();
+    }
+
+    /**
+     * 读取未解码的原始行（视图仅在下一次读取之前有效）
+     */
+    private RawLine nextRawLine() throws Exception {
+        if (!opened || (endOffset >= 0 && lineSource.position() >= endOffset)) {
+            return null;
+        }
+        RawLine line = lineSource.nextLine();
+        if (line != null) {
+            lineNumber++;
+        }
+        return line;
+    }
+
+    /**
+     * 是否需要延迟决策（逐行读取时才能判断最后一行是否为Footer）
+     */
+    private boolean isFooterDeferred() {
+        return footerParser != null && footerExpected && !footerResolved;
     }
 
     /**
      * 判断是否为Header行
      */
     private boolean isHeaderLine(String line) {
-        // 简单判断：如果配置了headerParser，第一行就是Header
-        return headerParser != null;
+        // 简单判断：如果配置了headerParser，第一行就是Header（分区模式下仅第一个分区）
+        return headerExpected && headerParser != null;
     }
 
     /**
@@ -401,8 +884,8 @@ public class HeaderFooterAwareReader<T> implements ItemReader<T>, ItemStream {
             return false;
         }
 
-        // 只有配置了 footerParser 时才检测 Footer
-        if (footerParser == null) {
+        // 只有配置了 footerParser 时才检测 Footer（分区模式下仅最后一个分区）
+        if (footerParser == null || !footerExpected) {
             return false;
         }
 
@@ -421,9 +904,53 @@ public class HeaderFooterAwareReader<T> implements ItemReader<T>, ItemStream {
      * 注意：直接抛出 BindException 以支持 skip/retry 机制
      */
     private T processLine(String line) throws Exception {
+        if (recordTypeRouter != null) {
+            // 多记录类型：按前缀路由
+            RecordTypeRouter.Route<? extends T> route = recordTypeRouter.match(line);
+            T item = route.map(line);
+            lastRecordType = route.type;
+            return item;
+        }
         // Tokenize
         var fieldSet = lineTokenizer.tokenize(line);
         // Map (BindException 会被 Spring Batch 的 skip/retry 捕获)
         return fieldSetMapper.mapFieldSet(fieldSet);
     }
+
+    /**
+     * 已解码行的原始行视图（延迟决策模式只缓存 String）：按字节判断时才按 Reader 的字符集重新编码
+     */
+    private static final class DecodedLine implements RawLine {
+
+        private final String line;
+        private final Charset charset;
+        private byte[] bytes;
+
+        DecodedLine(String line, Charset charset) {
+            this.line = line;
+            this.charset = charset;
+        }
+
+        @Override
+        public int length() {
+            return bytes().length;
+        }
+
+        @Override
+        public byte byteAt(int index) {
+            return bytes()[index];
+        }
+
+        @Override
+        public String decode() {
+            return line;
+        }
+
+        private byte[] bytes() {
+            if (bytes == null) {
+                bytes = line.getBytes(charset);
+            }
+            return bytes;
+        }
+    }
 }
@@ -0,0 +1,116 @@
+package com.batchweaver.core.fileprocess.reader;
+
+import org.springframework.batch.item.file.mapping.FieldSetMapper;
+import org.springframework.batch.item.file.transform.LineTokenizer;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 多记录类型路由
+ * <p>
+ * 明细区交错出现多种记录类型（如 D1 / D2 / D3）的文件，按行首的类型前缀把每一行分派给对应的分词器和映射器，
+ * 配合 {@link HeaderFooterAwareReader} 一次扫描读出全部类型，Reader 同时按类型计数供 Footer 对账。
+ * <p>
+ * 前缀按长度降序匹配（"D10" 优先于 "D1"）；没有匹配的前缀时抛出 {@link IllegalArgumentException}，
+ * 需要忽略的类型可以配合 {@link HeaderFooterAwareReader#setLinePredicate} 先过滤掉。
+ * <p>
+ * 推荐把各类型的实体声明为一个 sealed 层次，处理器中用 switch 模式匹配穷举：
+ * <pre>{@code
+ * sealed interface FeedRecord permits AccountRecord, TransactionRecord {}
+ *
+ * RecordTypeRouter<FeedRecord> router = new RecordTypeRouter<FeedRecord>()
+ *         .route("D1", FixedWidthLineTokenizer.forType(AccountRecord.class, charset),
+ *                 new AnnotationDrivenFieldSetMapper<>(AccountRecord.class))
+ *         .route("D2", FixedWidthLineTokenizer.forType(TransactionRecord.class, charset),
+ *                 new AnnotationDrivenFieldSetMapper<>(TransactionRecord.class));
+ *
+ * HeaderFooterAwareReader<FeedRecord> reader = new HeaderFooterAwareReader<>(
+ *         resource, headerParser, null, footerParser, footerValidator, router);
+ * }</pre>
+ * <p>
+ * <b>注意：</b>分词器通常复用返回的 FieldSet，每种类型需要独立的分词器实例；实例非线程安全。
+ *
+ * @param <T> 各记录类型的公共父类型
+ */
+public class RecordTypeRouter<T> {
+
+    /**
+     * 按前缀长度降序排列的路由
+     */
+    private final List<Route<? extends T>> routes = new ArrayList<>();
+
+    /**
+     * 添加记录类型（类型名即前缀）
+     *
+     * @param prefix    行首的类型前缀
+     * @param tokenizer 该类型的分词器
+     * @param mapper    该类型的映射器
+     */
+    public <S extends T> RecordTypeRouter<T> route(String prefix, LineTokenizer tokenizer, FieldSetMapper<S> mapper) {
+        return route(prefix, prefix, tokenizer, mapper);
+    }
+
+    /**
+     * 添加记录类型
+     *
+     * @param type      类型名（计数的键）
+     * @param prefix    行首的类型前缀
+     * @param tokenizer 该类型的分词器
+     * @param mapper    该类型的映射器
+     */
+    public <S extends T> RecordTypeRouter<T> route(String type, String prefix, LineTokenizer tokenizer, FieldSetMapper<S> mapper) {
+        Objects.requireNonNull(type, "type must not be null");
+        if (prefix == null || prefix.isEmpty()) {
+            throw new IllegalArgumentException("prefix must not be empty");
+        }
+        for (Route<? extends T> route : routes) {
+            if (route.prefix.equals(prefix)) {
+                throw new IllegalArgumentException("Duplicate record type prefix: " + prefix);
+            }
+        }
+        routes.add(new Route<>(type, prefix,
+                Objects.requireNonNull(tokenizer, "tokenizer must not be null"),
+                Objects.requireNonNull(mapper, "mapper must not be null")));
+        routes.sort(Comparator.comparingInt((Route<? extends T> route) -> route.prefix.length()).reversed());
+        return this;
+    }
+
+    /**
+     * 查找行对应的记录类型
+     *
+     * @throws IllegalArgumentException 没有匹配的类型前缀
+     */
+    Route<? extends T> match(String line) {
+        for (Route<? extends T> route : routes) {
+            if (line.startsWith(route.prefix)) {
+                return route;
+            }
+        }
+        throw new IllegalArgumentException("No record type route matches line: " + line);
+    }
+
+    /**
+     * 单个记录类型的分词器 / 映射器
+     */
+    static final class Route<S> {
+
+        final String type;
+        final String prefix;
+        final LineTokenizer tokenizer;
+        final FieldSetMapper<S> mapper;
+
+        Route(String type, String prefix, LineTokenizer tokenizer, FieldSetMapper<S> mapper) {
+            this.type = type;
+            this.prefix = prefix;
+            this.tokenizer = tokenizer;
+            this.mapper = mapper;
+        }
+
+        S map(String line) throws Exception {
+            return mapper.mapFieldSet(tokenizer.tokenize(line));
+        }
+    }
+}
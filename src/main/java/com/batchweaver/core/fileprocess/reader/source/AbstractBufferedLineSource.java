@@ -0,0 +1,266 @@
+package com.batchweaver.core.fileprocess.reader.source;
+
+import org.springframework.core.io.Resource;
+
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.util.Arrays;
+
+/**
+ * 基于字节缓冲区的行数据源基类
+ * <p>
+ * 在复用的 byte[] 缓冲区中直接查找换行符（\n、\r\n、\r），并记录下一行起始位置的字节偏移量。
+ * 返回的 {@link RawLine} 是指向缓冲区的视图，不会为每一行复制字节；只有调用 {@link RawLine#decode()} 时才解码
+ * （多字节字符集按区段解码，见 {@link LineDecoder}）。
+ * <p>
+ * 开启引号感知（{@link #setQuoteCharacter(byte)}）后，引号内的换行符属于字段内容，一条记录可以跨越多个物理行。
+ * 每次加载数据时预先检查新字节中是否含有引号，不含引号的区域仍走普通的换行符扫描。
+ * <p>
+ * 子类只需负责打开底层输入并填充字节。
+ */
+public abstract class AbstractBufferedLineSource implements LineSource, RawLine {
+
+    private static final int NO_QUOTE = Integer.MIN_VALUE;
+
+    private final int initialBufferSize;
+
+    private byte[] buffer;
+
+    private LineDecoder decoder;
+
+    /**
+     * 缓冲区中下一个未消费字节的下标
+     */
+    private int pos;
+
+    /**
+     * 缓冲区中有效字节的上界
+     */
+    private int limit;
+
+    /**
+     * 当前行在缓冲区中的起始下标和长度
+     */
+    private int lineStart;
+    private int lineLength;
+
+    /**
+     * 下一行起始位置的字节偏移量（相对文件开头）
+     */
+    private long position;
+
+    private boolean eof;
+
+    /**
+     * 引号字符，{@link #NO_QUOTE} 表示不识别引号（不会与任何字节值相等）
+     */
+    private int quote = NO_QUOTE;
+
+    /**
+     * 当前记录扫描中是否处于引号内
+     */
+    private boolean inQuotes;
+
+    /**
+     * 已加载数据中最后一个引号的字节偏移量（相对文件开头），-1 表示没有
+     */
+    private long lastQuoteOffset;
+
+    protected AbstractBufferedLineSource(int initialBufferSize) {
+        if (initialBufferSize <= 0) {
+            throw new IllegalArgumentException("bufferSize must be positive");
+        }
+        this.initialBufferSize = initialBufferSize;
+    }
+
+    @Override
+    public void open(Resource resource, Charset charset, long startOffset) throws IOException {
+        this.decoder = LineDecoder.of(charset);
+        this.buffer = new byte[initialBufferSize];
+        this.pos = 0;
+        this.limit = 0;
+        this.lineStart = 0;
+        this.lineLength = 0;
+        this.position = startOffset;
+        this.eof = false;
+        this.lastQuoteOffset = -1;
+        openInput(resource, startOffset);
+    }
+
+    /**
+     * 打开底层输入并定位到指定字节偏移量
+     */
+    protected abstract void openInput(Resource resource, long startOffset) throws IOException;
+
+    /**
+     * 从底层输入读取字节
+     *
+     * @return 读取的字节数，EOF 时返回 -1
+     */
+    protected abstract int read(byte[] target, int offset, int length) throws IOException;
+
+    @Override
+    public boolean supportsQuotedRecords() {
+        return true;
+    }
+
+    @Override
+    public void setQuoteCharacter(byte quoteCharacter) {
+        if (quoteCharacter < 0) {
+            throw new IllegalArgumentException("quoteCharacter must be an ASCII character");
+        }
+        this.quote = quoteCharacter;
+    }
+
+    @Override
+    public RawLine nextLine() throws IOException {
+        int scan = pos;
+        inQuotes = false;
+        while (true) {
+            // 预检查：[scan, limit) 中没有引号且不在引号内时走普通扫描
+            boolean quoted = quote >= 0 && (inQuotes || lastQuoteOffset >= position + (scan - pos));
+            scan = quoted ? findRecordEnd(scan) : findLineEnd(scan);
+
+            if (scan < limit) {
+                if (buffer[scan] == '\n') {
+                    return emitLine(scan, scan + 1);
+                }
+                // \r 之后可能紧跟 \n，需要确保下一个字节已加载
+                if (scan + 1 >= limit) {
+                    int offset = scan - pos;
+                    boolean loaded = fill();
+                    scan = pos + offset;
+                    if (!loaded) {
+                        return emitLine(scan, scan + 1);
+                    }
+                }
+                return emitLine(scan, buffer[scan + 1] == '\n' ? scan + 2 : scan + 1);
+            }
+
+            // 缓冲区中没有行结束符，继续加载
+            int scanned = scan - pos;
+            if (!fill()) {
+                if (pos == limit) {
+                    return null;
+                }
+                // 最后一行没有行结束符
+                return emitLine(limit, limit);
+            }
+            scan = pos + scanned;
+        }
+    }
+
+    @Override
+    public long position() {
+        return position;
+    }
+
+    // ============================================================================
+    // RawLine 实现（指向缓冲区的视图）
+    // ============================================================================
+
+    @Override
+    public int length() {
+        return lineLength;
+    }
+
+    @Override
+    public byte byteAt(int index) {
+        return buffer[lineStart + index];
+    }
+
+    @Override
+    public byte[] toByteArray() {
+        return Arrays.copyOfRange(buffer, lineStart, lineStart + lineLength);
+    }
+
+    @Override
+    public String decode() {
+        return decoder.decode(buffer, lineStart, lineLength);
+    }
+
+    // ============================================================================
+    // 私有辅助方法
+    // ============================================================================
+
+    /**
+     * 查找下一个行结束符（\n 或 \r）
+     *
+     * @return 行结束符下标，没有时返回 {@link #limit}
+     */
+    private int findLineEnd(int from) {
+        for (int i = from; i < limit; i++) {
+            byte b = buffer[i];
+            if (b == '\n' || b == '\r') {
+                return i;
+            }
+        }
+        return limit;
+    }
+
+    /**
+     * 查找下一个不在引号内的行结束符（连续两个引号表示转义，状态翻转两次后不变）
+     *
+     * @return 行结束符下标，没有时返回 {@link #limit}
+     */
+    private int findRecordEnd(int from) {
+        for (int i = from; i < limit; i++) {
+            byte b = buffer[i];
+            if (b == quote) {
+                inQuotes = !inQuotes;
+            } else if (!inQuotes && (b == '\n' || b == '\r')) {
+                return i;
+            }
+        }
+        return limit;
+    }
+
+    private RawLine emitLine(int lineEnd, int next) {
+        lineStart = pos;
+        lineLength = lineEnd - pos;
+        position += next - pos;
+        pos = next;
+        return this;
+    }
+
+    /**
+     * 将未消费字节移到缓冲区开头（必要时扩容），再从底层输入加载更多数据
+     * <p>
+     * 调用后 {@link #pos} 可能变化，调用方需按相对位置恢复扫描下标
+     *
+     * @return 是否加载到新数据
+     */
+    private boolean fill() throws IOException {
+        if (eof) {
+            return false;
+        }
+        int remaining = limit - pos;
+        if (pos > 0) {
+            System.arraycopy(buffer, pos, buffer, 0, remaining);
+        } else if (remaining == buffer.length) {
+            // 单行超过缓冲区大小，扩容
+            byte[] larger = new byte[buffer.length * 2];
+            System.arraycopy(buffer, 0, larger, 0, remaining);
+            buffer = larger;
+        }
+        pos = 0;
+        limit = remaining;
+
+        int n = read(buffer, limit, buffer.length - limit);
+        if (n < 0) {
+            eof = true;
+            return false;
+        }
+        if (quote >= 0) {
+            // 预检查新加载的字节：记录最后一个引号的位置
+            for (int i = limit + n - 1; i >= limit; i--) {
+                if (buffer[i] == quote) {
+                    lastQuoteOffset = position + (i - pos);
+                    break;
+                }
+            }
+        }
+        limit += n;
+        return true;
+    }
+}
@@ -0,0 +1,51 @@
+package com.batchweaver.core.fileprocess.reader.source;
+
+import org.springframework.core.io.Resource;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * 基于 FileChannel 的行数据源
+ * <p>
+ * 以大窗口（默认 1MB）直接从 FileChannel 读取到复用的缓冲区，绕过 InputStream 包装层，
+ * 适合 GB 级的顺序扫描。仅适用于文件资源（{@link Resource#isFile()}）。
+ */
+public class FileChannelLineSource extends AbstractBufferedLineSource {
+
+    private static final int DEFAULT_WINDOW_SIZE = 1024 * 1024;
+
+    private FileChannel channel;
+
+    public FileChannelLineSource() {
+        this(DEFAULT_WINDOW_SIZE);
+    }
+
+    public FileChannelLineSource(int windowSize) {
+        super(windowSize);
+    }
+
+    @Override
+    protected void openInput(Resource resource, long startOffset) throws IOException {
+        if (!resource.isFile()) {
+            throw new IOException("FileChannelLineSource requires a file resource: " + resource);
+        }
+        channel = FileChannel.open(resource.getFile().toPath(), StandardOpenOption.READ);
+        channel.position(startOffset);
+    }
+
+    @Override
+    protected int read(byte[] target, int offset, int length) throws IOException {
+        return channel.read(ByteBuffer.wrap(target, offset, length));
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (channel != null) {
+            channel.close();
+            channel = null;
+        }
+    }
+}
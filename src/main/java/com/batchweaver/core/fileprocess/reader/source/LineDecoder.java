@@ -0,0 +1,130 @@
+package com.batchweaver.core.fileprocess.reader.source;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 行解码器
+ * <p>
+ * 对 GBK / GB18030 等兼容 ASCII 的多字节字符集按区段解码：ASCII 字节直接转换为字符，
+ * 只有多字节区段（如中文姓名、地址列）才交给 {@link CharsetDecoder}，避免整行都经过完整的解码流程。
+ * <p>
+ * UTF-8 / US-ASCII / ISO-8859-1 已由 JDK 内建快速路径处理，其余字符集退化为 {@code new String(bytes, charset)}。
+ * 非线程安全，每个 {@link LineSource} 持有一个实例。
+ */
+final class LineDecoder {
+
+    /**
+     * 双字节字符集：首字节 0x81-0xFE，尾字节可能落在 ASCII 范围（0x40-0x7E）
+     */
+    private static final Set<String> DOUBLE_BYTE_CHARSETS = Set.of("GBK", "GB2312", "BIG5", "BIG5-HKSCS", "EUC-KR", "X-WINDOWS-949", "X-WINDOWS-950");
+
+    private static final String GB18030 = "GB18030";
+
+    private enum Layout {
+        /**
+         * 交给 JDK 整行解码
+         */
+        DEFAULT,
+        /**
+         * 双字节字符集
+         */
+        DOUBLE_BYTE,
+        /**
+         * GB18030：双字节或四字节（第二字节为 0x30-0x39）
+         */
+        GB18030
+    }
+
+    private final Charset charset;
+    private final Layout layout;
+    private final CharsetDecoder decoder;
+
+    private char[] chars = new char[256];
+
+    private LineDecoder(Charset charset, Layout layout) {
+        this.charset = charset;
+        this.layout = layout;
+        this.decoder = layout == Layout.DEFAULT ? null : charset.newDecoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+    }
+
+    static LineDecoder of(Charset charset) {
+        String name = charset.name().toUpperCase(Locale.ROOT);
+        if (GB18030.equals(name)) {
+            return new LineDecoder(charset, Layout.GB18030);
+        }
+        if (DOUBLE_BYTE_CHARSETS.contains(name)) {
+            return new LineDecoder(charset, Layout.DOUBLE_BYTE);
+        }
+        return new LineDecoder(charset, Layout.DEFAULT);
+    }
+
+    /**
+     * 解码字节区间
+     */
+    String decode(byte[] bytes, int offset, int length) {
+        if (layout == Layout.DEFAULT) {
+            return new String(bytes, offset, length, charset);
+        }
+        // 每个字符至少占一个字节（GB18030 四字节字符最多产生两个 char），length 足够容纳
+        if (chars.length < length) {
+            chars = new char[Math.max(length, chars.length * 2)];
+        }
+        int end = offset + length;
+        int count = 0;
+        int i = offset;
+        while (i < end) {
+            byte b = bytes[i];
+            if (b >= 0) {
+                chars[count++] = (char) b;
+                i++;
+                continue;
+            }
+            // 多字节区段：按字符边界推进，直到遇到独立的 ASCII 字节
+            int runStart = i;
+            while (i < end && bytes[i] < 0) {
+                i += charLength(bytes, i, end);
+            }
+            i = Math.min(i, end);
+            count = decodeRun(bytes, runStart, i - runStart, count);
+        }
+        return new String(chars, 0, count);
+    }
+
+    // ============================================================================
+    // 私有辅助方法
+    // ============================================================================
+
+    /**
+     * 以 index 处的高位字节开头的字符所占字节数
+     */
+    private int charLength(byte[] bytes, int index, int end) {
+        int lead = bytes[index] & 0xFF;
+        if (lead == 0x80 || lead == 0xFF) {
+            return 1;
+        }
+        if (layout == Layout.GB18030 && index + 1 < end) {
+            int second = bytes[index + 1] & 0xFF;
+            if (second >= 0x30 && second <= 0x39) {
+                return 4;
+            }
+        }
+        return 2;
+    }
+
+    private int decodeRun(byte[] bytes, int offset, int length, int count) {
+        ByteBuffer in = ByteBuffer.wrap(bytes, offset, length);
+        CharBuffer out = CharBuffer.wrap(chars, count, chars.length - count);
+        decoder.reset();
+        decoder.decode(in, out, true);
+        decoder.flush(out);
+        return out.position();
+    }
+}
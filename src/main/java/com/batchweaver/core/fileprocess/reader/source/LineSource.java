@@ -0,0 +1,90 @@
+package com.batchweaver.core.fileprocess.reader.source;
+
+import org.springframework.core.io.Resource;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.charset.Charset;
+
+/**
+ * 行数据源
+ * <p>
+ * {@link com.batchweaver.core.fileprocess.reader.HeaderFooterAwareReader} 的可插拔读取后端：
+ * 在字节层面查找行结束符（\n、\r\n、\r），返回未解码的 {@link RawLine}，并记录下一行的字节偏移量用于断点续读。
+ * <p>
+ * 内置实现：
+ * <ul>
+ *   <li>{@link StreamLineSource} - 基于 InputStream，适用于任意 Resource（默认）</li>
+ *   <li>{@link FileChannelLineSource} - 基于 FileChannel 大窗口读取，仅适用于文件资源</li>
+ *   <li>{@link MappedLineSource} - 基于 MappedByteBuffer 内存映射，仅适用于文件资源</li>
+ *   <li>{@link CompressedLineSource} - 流式读取 gzip / zip 压缩资源</li>
+ *   <li>{@link ReadAheadLineSource} - 装饰器，由独立线程异步预读任意数据源</li>
+ * </ul>
+ * 实现类是有状态的，同一时间只服务一个 Reader。
+ */
+public interface LineSource extends Closeable {
+
+    /**
+     * 打开资源并定位到指定字节偏移量
+     *
+     * @param resource    文件资源
+     * @param charset     字符集（用于 {@link RawLine#decode()}）
+     * @param startOffset 起始字节偏移量（必须是行首位置，0 表示从头读取）
+     * @throws IOException 打开失败时抛出
+     */
+    void open(Resource resource, Charset charset, long startOffset) throws IOException;
+
+    /**
+     * 读取下一行
+     *
+     * @return 原始行视图（仅在下一次调用前有效），EOF 时返回 null
+     * @throws IOException 读取失败时抛出
+     */
+    RawLine nextLine() throws IOException;
+
+    /**
+     * 下一行起始位置的字节偏移量（相对文件开头）
+     * <p>
+     * 压缩数据源为解压后的字节偏移量；该值可直接作为 {@link #open} 的 startOffset 用于续读
+     */
+    long position();
+
+    /**
+     * 是否支持引号感知的记录扫描（{@link #setQuoteCharacter(byte)}）
+     * <p>
+     * Reader 在 open() 时检查，不支持时拒绝引号配置；内置实现均支持，默认 false
+     */
+    default boolean supportsQuotedRecords() {
+        return false;
+    }
+
+    /**
+     * 开启引号感知的记录扫描（RFC 4180）：引号内的换行符属于字段内容，不作为记录结束符
+     * <p>
+     * 必须在 {@link #open} 之前调用，且仅当 {@link #supportsQuotedRecords()} 为 true 时调用；
+     * {@link #nextLine()} 返回的是完整记录（可能跨越多个物理行）
+     *
+     * @param quoteCharacter 引号字符（ASCII）
+     */
+    default void setQuoteCharacter(byte quoteCharacter) {
+        throw new UnsupportedOperationException(getClass().getSimpleName() + " does not support quoted records");
+    }
+
+    /**
+     * 已读取的资源物理字节数（用于进度上报）
+     * <p>
+     * 普通文件与 {@link #position()} 相同；压缩数据源为已消费的压缩字节数
+     */
+    default long sourcePosition() {
+        return position();
+    }
+
+    /**
+     * {@link #position()} 是否与资源物理字节一一对应
+     * <p>
+     * 为 false 时（如压缩数据源）不支持按物理偏移量定位的功能，例如 Footer 前置与字节范围分区
+     */
+    default boolean isSeekable() {
+        return true;
+    }
+}
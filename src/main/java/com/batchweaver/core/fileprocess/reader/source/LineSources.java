@@ -0,0 +1,36 @@
+package com.batchweaver.core.fileprocess.reader.source;
+
+import org.springframework.core.io.Resource;
+
+import java.util.Locale;
+
+/**
+ * 行数据源工具类
+ * <p>
+ * 根据资源扩展名选择默认的 {@link LineSource}：.gz / .gzip / .zip 使用 {@link CompressedLineSource}，
+ * 其余使用 {@link StreamLineSource}。
+ */
+public final class LineSources {
+
+    private LineSources() {
+    }
+
+    /**
+     * 按扩展名判断资源是否为压缩文件
+     */
+    public static boolean isCompressed(Resource resource) {
+        String filename = resource != null ? resource.getFilename() : null;
+        if (filename == null) {
+            return false;
+        }
+        String name = filename.toLowerCase(Locale.ROOT);
+        return name.endsWith(".gz") || name.endsWith(".gzip") || name.endsWith(".zip");
+    }
+
+    /**
+     * 为资源创建默认的行数据源
+     */
+    public static LineSource forResource(Resource resource) {
+        return isCompressed(resource) ? new CompressedLineSource() : new StreamLineSource();
+    }
+}
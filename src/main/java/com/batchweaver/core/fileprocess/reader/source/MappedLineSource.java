@@ -0,0 +1,203 @@
+package com.batchweaver.core.fileprocess.reader.source;
+
+import org.springframework.core.io.Resource;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * 基于内存映射（MappedByteBuffer）的行数据源
+ * <p>
+ * 按窗口（默认 64MB）映射文件，直接在映射内存上查找换行符，不经过任何中间拷贝；
+ * 只有调用 {@link RawLine#decode()} 时才把该行字节复制出来解码。
+ * 跨窗口的行会从行首重新映射，超过窗口大小的行会自动扩大窗口。
+ * 仅适用于文件资源（{@link Resource#isFile()}）。
+ */
+public class MappedLineSource implements LineSource, RawLine {
+
+    private static final int DEFAULT_WINDOW_SIZE = 64 * 1024 * 1024;
+    private static final int NO_QUOTE = Integer.MIN_VALUE;
+
+    private int windowSize;
+
+    /**
+     * 引号字符，{@link #NO_QUOTE} 表示不识别引号（不会与任何字节值相等）
+     */
+    private int quote = NO_QUOTE;
+
+    private FileChannel channel;
+    private LineDecoder decoder;
+    private long fileSize;
+
+    private MappedByteBuffer window;
+    private long windowStart;
+
+    /**
+     * 当前行在窗口中的起始下标和长度
+     */
+    private int lineStart;
+    private int lineLength;
+
+    /**
+     * 下一行起始位置的字节偏移量（相对文件开头）
+     */
+    private long position;
+
+    /**
+     * 解码用的复用缓冲区
+     */
+    private byte[] decodeBuffer = new byte[256];
+
+    public MappedLineSource() {
+        this(DEFAULT_WINDOW_SIZE);
+    }
+
+    public MappedLineSource(int windowSize) {
+        if (windowSize <= 0) {
+            throw new IllegalArgumentException("windowSize must be positive");
+        }
+        this.windowSize = windowSize;
+    }
+
+    @Override
+    public void open(Resource resource, Charset charset, long startOffset) throws IOException {
+        if (!resource.isFile()) {
+            throw new IOException("MappedLineSource requires a file resource: " + resource);
+        }
+        this.channel = FileChannel.open(resource.getFile().toPath(), StandardOpenOption.READ);
+        this.decoder = LineDecoder.of(charset);
+        this.fileSize = channel.size();
+        this.window = null;
+        this.windowStart = 0;
+        this.position = startOffset;
+    }
+
+    @Override
+    public boolean supportsQuotedRecords() {
+        return true;
+    }
+
+    @Override
+    public void setQuoteCharacter(byte quoteCharacter) {
+        if (quoteCharacter < 0) {
+            throw new IllegalArgumentException("quoteCharacter must be an ASCII character");
+        }
+        this.quote = quoteCharacter;
+    }
+
+    @Override
+    public RawLine nextLine() throws IOException {
+        if (position >= fileSize) {
+            return null;
+        }
+        while (true) {
+            if (window == null || position < windowStart || position >= windowStart + window.limit()) {
+                map(position);
+            }
+            int start = (int) (position - windowStart);
+            int limit = window.limit();
+            boolean lastWindow = windowStart + limit >= fileSize;
+
+            // 每次都从行首扫描，引号状态从行首开始计算
+            boolean inQuotes = false;
+            for (int i = start; i < limit; i++) {
+                byte b = window.get(i);
+                if (b == quote) {
+                    inQuotes = !inQuotes;
+                    continue;
+                }
+                if (inQuotes) {
+                    continue;
+                }
+                if (b == '\n') {
+                    return emitLine(start, i, i + 1);
+                }
+                if (b == '\r') {
+                    if (i + 1 < limit) {
+                        return emitLine(start, i, window.get(i + 1) == '\n' ? i + 2 : i + 1);
+                    }
+                    if (lastWindow) {
+                        return emitLine(start, i, i + 1);
+                    }
+                    // \r 位于窗口末尾，需要重新映射才能判断是否为 \r\n
+                    break;
+                }
+            }
+
+            if (lastWindow) {
+                // 最后一行没有行结束符
+                return emitLine(start, limit, limit);
+            }
+
+            // 行跨越窗口边界：从行首重新映射；行本身比窗口还长时扩大窗口
+            if (start == 0) {
+                windowSize = (int) Math.min((long) windowSize * 2, Integer.MAX_VALUE - 8);
+            }
+            map(position);
+        }
+    }
+
+    @Override
+    public long position() {
+        return position;
+    }
+
+    @Override
+    public void close() throws IOException {
+        window = null;
+        if (channel != null) {
+            channel.close();
+            channel = null;
+        }
+    }
+
+    // ============================================================================
+    // RawLine 实现（指向映射窗口的视图）
+    // ============================================================================
+
+    @Override
+    public int length() {
+        return lineLength;
+    }
+
+    @Override
+    public byte byteAt(int index) {
+        return window.get(lineStart + index);
+    }
+
+    @Override
+    public byte[] toByteArray() {
+        byte[] bytes = new byte[lineLength];
+        window.get(lineStart, bytes, 0, lineLength);
+        return bytes;
+    }
+
+    @Override
+    public String decode() {
+        if (decodeBuffer.length < lineLength) {
+            decodeBuffer = new byte[Math.max(lineLength, decodeBuffer.length * 2)];
+        }
+        window.get(lineStart, decodeBuffer, 0, lineLength);
+        return decoder.decode(decodeBuffer, 0, lineLength);
+    }
+
+    // ============================================================================
+    // 私有辅助方法
+    // ============================================================================
+
+    private RawLine emitLine(int start, int lineEnd, int next) {
+        lineStart = start;
+        lineLength = lineEnd - start;
+        position = windowStart + next;
+        return this;
+    }
+
+    private void map(long offset) throws IOException {
+        long size = Math.min(windowSize, fileSize - offset);
+        window = channel.map(FileChannel.MapMode.READ_ONLY, offset, size);
+        windowStart = offset;
+    }
+}
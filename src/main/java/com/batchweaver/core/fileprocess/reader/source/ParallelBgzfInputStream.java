@@ -0,0 +1,257 @@
+package com.batchweaver.core.fileprocess.reader.source;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.zip.CRC32;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+import java.util.zip.ZipException;
+
+/**
+ * 并行解压的 BGZF（分块 gzip）输入流
+ * <p>
+ * BGZF 文件由多个独立的 gzip 成员组成，每个成员的 Header 中带有块大小（"BC" 扩展字段），
+ * 因此无需解压即可切分出每个块。本类顺序读取压缩块，提交到线程池并行解压，再按原顺序输出。
+ * <p>
+ * 定位起始偏移量时只读取压缩块并累加块尾的 ISIZE（解压后大小），只有起始偏移量所在的块才需要解压。
+ */
+final class ParallelBgzfInputStream extends InputStream {
+
+    private static final int HEADER_SIZE = 18;
+    private static final int TRAILER_SIZE = 8;
+
+    private final InputStream in;
+    private final ExecutorService executor;
+    private final int maxInFlight;
+    private final ArrayDeque<Future<Block>> inFlight = new ArrayDeque<>();
+
+    /**
+     * 已读取的压缩字节数（块读取进度）
+     */
+    private long compressedOffset;
+    private boolean inputExhausted;
+
+    private Block current = Block.EMPTY;
+    private int currentPos;
+
+    /**
+     * 当前消费块结束位置的压缩字节偏移量
+     */
+    private long compressedPosition;
+
+    /**
+     * @param in          压缩输入流（从文件开头读取）
+     * @param parallelism 解压线程数
+     * @param startOffset 需要跳过的解压后字节数
+     */
+    ParallelBgzfInputStream(InputStream in, int parallelism, long startOffset) throws IOException {
+        this.in = in;
+        this.maxInFlight = parallelism * 2;
+        this.executor = Executors.newFixedThreadPool(parallelism, runnable -> {
+            Thread thread = new Thread(runnable, "bgzf-inflater");
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            skipBlocks(startOffset);
+        } catch (IOException e) {
+            close();
+            throw e;
+        }
+    }
+
+    /**
+     * 判断指定位置是否为 BGZF 块头（gzip + FEXTRA + "BC" 扩展字段）
+     */
+    static boolean isBgzfHeader(byte[] bytes, int length) {
+        return length >= HEADER_SIZE
+                && (bytes[0] & 0xFF) == 0x1F
+                && (bytes[1] & 0xFF) == 0x8B
+                && bytes[2] == 8
+                && (bytes[3] & 0x04) != 0
+                && uint16(bytes, 10) == 6
+                && bytes[12] == 'B'
+                && bytes[13] == 'C'
+                && uint16(bytes, 14) == 2;
+    }
+
+    /**
+     * 当前消费块结束位置的压缩字节偏移量
+     */
+    long compressedPosition() {
+        return compressedPosition;
+    }
+
+    @Override
+    public int read() throws IOException {
+        while (currentPos >= current.data.length) {
+            if (!nextBlock()) {
+                return -1;
+            }
+        }
+        return current.data[currentPos++] & 0xFF;
+    }
+
+    @Override
+    public int read(byte[] target, int offset, int length) throws IOException {
+        if (length == 0) {
+            return 0;
+        }
+        while (currentPos >= current.data.length) {
+            if (!nextBlock()) {
+                return -1;
+            }
+        }
+        int n = Math.min(length, current.data.length - currentPos);
+        System.arraycopy(current.data, currentPos, target, offset, n);
+        currentPos += n;
+        return n;
+    }
+
+    @Override
+    public void close() throws IOException {
+        executor.shutdownNow();
+        inFlight.clear();
+        current = Block.EMPTY;
+        in.close();
+    }
+
+    // ============================================================================
+    // 私有辅助方法
+    // ============================================================================
+
+    private void skipBlocks(long startOffset) throws IOException {
+        long remaining = startOffset;
+        while (remaining > 0) {
+            Block raw = readRawBlock();
+            if (raw == null) {
+                throw new EOFException("Start offset " + startOffset + " is beyond the end of the BGZF stream");
+            }
+            int size = int32(raw.data, raw.data.length - 4);
+            compressedPosition = raw.compressedEnd;
+            if (size <= remaining) {
+                remaining -= size;
+                continue;
+            }
+            // 起始偏移量落在该块内部：解压后跳过块内剩余字节
+            current = inflate(raw);
+            currentPos = (int) remaining;
+            remaining = 0;
+        }
+    }
+
+    private boolean nextBlock() throws IOException {
+        fillPipeline();
+        Future<Block> next = inFlight.poll();
+        if (next == null) {
+            return false;
+        }
+        try {
+            current = next.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while inflating BGZF block");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException io) {
+                throw io;
+            }
+            throw new IOException("Failed to inflate BGZF block", e.getCause());
+        }
+        currentPos = 0;
+        compressedPosition = current.compressedEnd;
+        return true;
+    }
+
+    /**
+     * 读取压缩块并提交解压，保持最多 {@link #maxInFlight} 个块在途
+     */
+    private void fillPipeline() throws IOException {
+        while (!inputExhausted && inFlight.size() < maxInFlight) {
+            Block raw = readRawBlock();
+            if (raw == null) {
+                inputExhausted = true;
+                return;
+            }
+            inFlight.add(executor.submit(() -> inflate(raw)));
+        }
+    }
+
+    /**
+     * 读取一个完整的压缩块（含块头与块尾），EOF 时返回 null
+     */
+    private Block readRawBlock() throws IOException {
+        byte[] header = in.readNBytes(HEADER_SIZE);
+        if (header.length == 0) {
+            return null;
+        }
+        if (!isBgzfHeader(header, header.length)) {
+            throw new ZipException("Invalid BGZF block header at compressed offset " + compressedOffset);
+        }
+        int blockSize = uint16(header, 16) + 1;
+        byte[] data = Arrays.copyOf(header, blockSize);
+        int n = in.readNBytes(data, HEADER_SIZE, blockSize - HEADER_SIZE);
+        if (n < blockSize - HEADER_SIZE) {
+            throw new EOFException("Truncated BGZF block at compressed offset " + compressedOffset);
+        }
+        compressedOffset += blockSize;
+        return new Block(data, compressedOffset);
+    }
+
+    private static Block inflate(Block raw) throws IOException {
+        byte[] data = raw.data;
+        int expectedCrc = int32(data, data.length - 8);
+        int size = int32(data, data.length - 4);
+        byte[] out = new byte[size];
+
+        Inflater inflater = new Inflater(true);
+        try {
+            inflater.setInput(data, HEADER_SIZE, data.length - HEADER_SIZE - TRAILER_SIZE);
+            int off = 0;
+            while (off < size) {
+                int n = inflater.inflate(out, off, size - off);
+                if (n == 0 && (inflater.finished() || inflater.needsInput())) {
+                    break;
+                }
+                off += n;
+            }
+            if (off != size) {
+                throw new ZipException("BGZF block size mismatch: expected=" + size + ", actual=" + off);
+            }
+        } catch (DataFormatException e) {
+            throw new ZipException("Corrupt BGZF block: " + e.getMessage());
+        } finally {
+            inflater.end();
+        }
+
+        CRC32 crc = new CRC32();
+        crc.update(out);
+        if ((int) crc.getValue() != expectedCrc) {
+            throw new ZipException("BGZF block CRC mismatch before compressed offset " + raw.compressedEnd);
+        }
+        return new Block(out, raw.compressedEnd);
+    }
+
+    private static int uint16(byte[] bytes, int offset) {
+        return (bytes[offset] & 0xFF) | (bytes[offset + 1] & 0xFF) << 8;
+    }
+
+    private static int int32(byte[] bytes, int offset) {
+        return uint16(bytes, offset) | uint16(bytes, offset + 2) << 16;
+    }
+
+    /**
+     * 块数据（压缩或解压后）及其结束位置的压缩字节偏移量
+     */
+    private record Block(byte[] data, long compressedEnd) {
+
+        static final Block EMPTY = new Block(new byte[0], 0);
+    }
+}
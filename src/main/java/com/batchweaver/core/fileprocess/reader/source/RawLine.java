@@ -0,0 +1,43 @@
+package com.batchweaver.core.fileprocess.reader.source;
+
+/**
+ * 原始行视图（未解码的字节）
+ * <p>
+ * 由 {@link LineSource} 返回，通常是复用的轻量视图：仅在下一次调用 {@link LineSource#nextLine()} 之前有效。
+ * 只有真正需要时才调用 {@link #decode()} 生成 String，避免为每一行都做字符解码。
+ */
+public interface RawLine {
+
+    /**
+     * 行的字节长度（不含行结束符）
+     */
+    int length();
+
+    /**
+     * 读取指定位置的字节
+     *
+     * @param index 字节下标（从 0 开始）
+     * @return 字节值
+     */
+    byte byteAt(int index);
+
+    /**
+     * 复制整行字节
+     *
+     * @return 新的字节数组
+     */
+    default byte[] toByteArray() {
+        byte[] bytes = new byte[length()];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = byteAt(i);
+        }
+        return bytes;
+    }
+
+    /**
+     * 按 LineSource 的字符集解码整行
+     *
+     * @return 行内容
+     */
+    String decode();
+}
@@ -0,0 +1,305 @@
+package com.batchweaver.core.fileprocess.reader.source;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.Resource;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 异步预读行数据源（装饰器）
+ * <p>
+ * 由独立的生产者线程从被装饰的 {@link LineSource} 读取并解码行，按批放入有界环形队列；
+ * Chunk 线程只负责 tokenize / map，使文件 I/O 与 Writer 的 JDBC 往返重叠执行。
+ * <p>
+ * <b>与断点续读兼容：</b>{@link #position()} 返回的是 Chunk 线程<b>已消费</b>行的偏移量，
+ * 而不是生产者的读取进度，因此检查点只记录真正交给 Reader 的行。
+ * <p>
+ * <b>与 Footer 语义兼容：</b>行的顺序和内容与被装饰的数据源完全一致，延迟决策 / 分区范围 / Footer 前置均不受影响。
+ * <p>
+ * <b>背压策略：</b>队列满时生产者阻塞等待（{@link BackpressurePolicy#BLOCK}），
+ * 或等待超时后终止预读并让 Reader 失败（{@link BackpressurePolicy#FAIL_ON_TIMEOUT}）。
+ */
+@Slf4j
+public class ReadAheadLineSource implements LineSource {
+
+    private static final int DEFAULT_QUEUE_DEPTH = 16;
+    private static final int DEFAULT_BATCH_SIZE = 512;
+    private static final long DEFAULT_OFFER_TIMEOUT_MILLIS = 60_000;
+
+    /**
+     * close() 等待生产者线程退出的时间（秒）
+     */
+    private static final long PRODUCER_JOIN_SECONDS = 10;
+
+    /**
+     * 队列满时生产者的处理策略
+     */
+    public enum BackpressurePolicy {
+        /**
+         * 阻塞等待消费者腾出空间
+         */
+        BLOCK,
+        /**
+         * 等待超时后终止预读，消费者读到时抛出异常
+         */
+        FAIL_ON_TIMEOUT
+    }
+
+    /**
+     * 结束标记（EOF 或生产者异常）
+     */
+    private static final List<BufferedLine> END_OF_STREAM = List.of();
+
+    private final LineSource delegate;
+    private final int queueDepth;
+    private final int batchSize;
+    private final BackpressurePolicy backpressurePolicy;
+    private final long offerTimeoutMillis;
+
+    private BlockingQueue<List<BufferedLine>> queue;
+    private Thread producer;
+    private volatile boolean running;
+    private volatile Throwable producerFailure;
+
+    private List<BufferedLine> currentBatch = END_OF_STREAM;
+    private int batchIndex;
+    private boolean endOfStream;
+
+    /**
+     * 已消费行之后的字节偏移量
+     */
+    private long position;
+
+    /**
+     * 已消费行对应的资源物理字节数
+     */
+    private long sourcePosition;
+
+    public ReadAheadLineSource(LineSource delegate) {
+        this(delegate, DEFAULT_QUEUE_DEPTH, DEFAULT_BATCH_SIZE, BackpressurePolicy.BLOCK, DEFAULT_OFFER_TIMEOUT_MILLIS);
+    }
+
+    /**
+     * @param delegate           被装饰的行数据源
+     * @param queueDepth         队列深度（批次数）
+     * @param batchSize          每批行数
+     * @param backpressurePolicy 队列满时的处理策略
+     * @param offerTimeoutMillis {@link BackpressurePolicy#FAIL_ON_TIMEOUT} 的等待超时（毫秒）
+     */
+    public ReadAheadLineSource(LineSource delegate, int queueDepth, int batchSize,
+                               BackpressurePolicy backpressurePolicy, long offerTimeoutMillis) {
+        if (queueDepth <= 0 || batchSize <= 0) {
+            throw new IllegalArgumentException("queueDepth and batchSize must be positive");
+        }
+        this.delegate = Objects.requireNonNull(delegate, "delegate must not be null");
+        this.queueDepth = queueDepth;
+        this.batchSize = batchSize;
+        this.backpressurePolicy = Objects.requireNonNull(backpressurePolicy, "backpressurePolicy must not be null");
+        this.offerTimeoutMillis = offerTimeoutMillis;
+    }
+
+    @Override
+    public void open(Resource resource, Charset charset, long startOffset) throws IOException {
+        delegate.open(resource, charset, startOffset);
+        queue = new ArrayBlockingQueue<>(queueDepth);
+        currentBatch = END_OF_STREAM;
+        batchIndex = 0;
+        endOfStream = false;
+        producerFailure = null;
+        position = startOffset;
+        sourcePosition = delegate.sourcePosition();
+        running = true;
+
+        producer = new Thread(this::produce, "read-ahead-" + resource.getFilename());
+        producer.setDaemon(true);
+        producer.start();
+    }
+
+    @Override
+    public RawLine nextLine() throws IOException {
+        while (batchIndex >= currentBatch.size()) {
+            if (endOfStream) {
+                return null;
+            }
+            try {
+                currentBatch = queue.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while waiting for read-ahead lines");
+            }
+            batchIndex = 0;
+            if (currentBatch == END_OF_STREAM) {
+                endOfStream = true;
+                if (producerFailure != null) {
+                    throw new IOException("Read-ahead producer failed: " + producerFailure.getMessage(), producerFailure);
+                }
+            }
+        }
+        BufferedLine line = currentBatch.get(batchIndex++);
+        position = line.position;
+        sourcePosition = line.sourcePosition;
+        return line;
+    }
+
+    @Override
+    public long position() {
+        return position;
+    }
+
+    @Override
+    public boolean supportsQuotedRecords() {
+        return delegate.supportsQuotedRecords();
+    }
+
+    @Override
+    public void setQuoteCharacter(byte quoteCharacter) {
+        delegate.setQuoteCharacter(quoteCharacter);
+    }
+
+    @Override
+    public long sourcePosition() {
+        return sourcePosition;
+    }
+
+    @Override
+    public boolean isSeekable() {
+        return delegate.isSeekable();
+    }
+
+    @Override
+    public void close() throws IOException {
+        running = false;
+        Thread thread = producer;
+        producer = null;
+        queue = null;
+        currentBatch = END_OF_STREAM;
+        if (thread != null) {
+            thread.interrupt();
+            try {
+                thread.join(TimeUnit.SECONDS.toMillis(PRODUCER_JOIN_SECONDS));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            if (thread.isAlive()) {
+                // 生产者仍可能在读取被装饰的数据源，不能在它读取时关闭
+                log.warn("Read-ahead producer {} did not stop within {}s, leaving the delegate line source open",
+                        thread.getName(), PRODUCER_JOIN_SECONDS);
+                return;
+            }
+        }
+        delegate.close();
+    }
+
+    // ============================================================================
+    // 生产者线程
+    // ============================================================================
+
+    /**
+     * 读取并入队所有行；失败（读取异常或 {@link BackpressurePolicy#FAIL_ON_TIMEOUT} 超时）只在这里记录一次，
+     * 并由这里发送唯一的结束标记
+     */
+    private void produce() {
+        BlockingQueue<List<BufferedLine>> target = queue;
+        Throwable failure;
+        try {
+            List<BufferedLine> batch = new ArrayList<>(batchSize);
+            RawLine raw;
+            while (running && (raw = delegate.nextLine()) != null) {
+                batch.add(BufferedLine.copyOf(raw, delegate.position(), delegate.sourcePosition()));
+                if (batch.size() >= batchSize) {
+                    enqueue(target, batch);
+                    batch = new ArrayList<>(batchSize);
+                }
+            }
+            if (!running) {
+                // close() 停止了读取，消费者不再读取
+                return;
+            }
+            if (!batch.isEmpty()) {
+                enqueue(target, batch);
+            }
+            enqueue(target, END_OF_STREAM);
+            return;
+        } catch (InterruptedException e) {
+            // close() 中断，直接退出
+            return;
+        } catch (Throwable e) {
+            if (!running) {
+                // close() 中断了阻塞中的读取（如 ClosedByInterruptException），属于正常关闭
+                log.debug("Read-ahead producer stopped by close: {}", e.toString());
+                return;
+            }
+            failure = e;
+        }
+        log.error("Read-ahead producer failed: {}", failure.getMessage(), failure);
+        running = false;
+        producerFailure = failure;
+        // 腾出位置放入结束标记，消费者读到时抛出异常
+        target.clear();
+        target.offer(END_OF_STREAM);
+    }
+
+    /**
+     * 按背压策略入队
+     *
+     * @throws IOException {@link BackpressurePolicy#FAIL_ON_TIMEOUT} 下等待超时
+     */
+    private void enqueue(BlockingQueue<List<BufferedLine>> target, List<BufferedLine> batch)
+            throws InterruptedException, IOException {
+        if (backpressurePolicy == BackpressurePolicy.BLOCK) {
+            target.put(batch);
+        } else if (!target.offer(batch, offerTimeoutMillis, TimeUnit.MILLISECONDS)) {
+            throw new IOException("Read-ahead queue stayed full for " + offerTimeoutMillis + "ms");
+        }
+    }
+
+    /**
+     * 预读的行（复制原始字节，并在生产者线程中解码）
+     */
+    private static final class BufferedLine implements RawLine {
+
+        private final byte[] bytes;
+        private final String line;
+        private final long position;
+        private final long sourcePosition;
+
+        private BufferedLine(byte[] bytes, String line, long position, long sourcePosition) {
+            this.bytes = bytes;
+            this.line = line;
+            this.position = position;
+            this.sourcePosition = sourcePosition;
+        }
+
+        static BufferedLine copyOf(RawLine raw, long position, long sourcePosition) {
+            return new BufferedLine(raw.toByteArray(), raw.decode(), position, sourcePosition);
+        }
+
+        @Override
+        public int length() {
+            return bytes.length;
+        }
+
+        @Override
+        public byte byteAt(int index) {
+            return bytes[index];
+        }
+
+        @Override
+        public byte[] toByteArray() {
+            return bytes.clone();
+        }
+
+        @Override
+        public String decode() {
+            return line;
+        }
+    }
+}
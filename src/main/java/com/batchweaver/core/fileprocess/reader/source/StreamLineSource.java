@@ -0,0 +1,55 @@
+package com.batchweaver.core.fileprocess.reader.source;
+
+import org.springframework.core.io.Resource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * 基于 InputStream 的行数据源（默认实现）
+ * <p>
+ * 适用于任意 Resource。文件资源通过 {@link FileChannel#position(long)} 定位起始偏移量，
+ * 其他资源退化为跳过字节。
+ */
+public class StreamLineSource extends AbstractBufferedLineSource {
+
+    private static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
+
+    private InputStream in;
+
+    public StreamLineSource() {
+        this(DEFAULT_BUFFER_SIZE);
+    }
+
+    public StreamLineSource(int bufferSize) {
+        super(bufferSize);
+    }
+
+    @Override
+    protected void openInput(Resource resource, long startOffset) throws IOException {
+        if (resource.isFile()) {
+            FileChannel channel = FileChannel.open(resource.getFile().toPath(), StandardOpenOption.READ);
+            channel.position(startOffset);
+            in = Channels.newInputStream(channel);
+        } else {
+            in = resource.getInputStream();
+            in.skipNBytes(startOffset);
+        }
+    }
+
+    @Override
+    protected int read(byte[] target, int offset, int length) throws IOException {
+        return in.read(target, offset, length);
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (in != null) {
+            in.close();
+            in = null;
+        }
+    }
+}
@@ -3,7 +3,7 @@ package com.batchweaver.core.fileprocess.template;
 import com.batchweaver.core.fileprocess.function.FooterGenerator;
 import com.batchweaver.core.fileprocess.function.HeaderGenerator;
 import com.batchweaver.core.fileprocess.listener.UniversalErrorListener;
-import com.batchweaver.core.fileprocess.writer.AnnotationFieldExtractor;
+import com.batchweaver.core.fileprocess.writer.AnnotationLineAggregator;
 import lombok.Builder;
 import lombok.Data;
 import org.springframework.batch.core.Job;
@@ -17,7 +17,6 @@ import org.springframework.batch.item.ItemReader;
 import org.springframework.batch.item.file.FlatFileItemWriter;
 import org.springframework.batch.item.file.FlatFileParseException;
 import org.springframework.batch.item.file.builder.FlatFileItemWriterBuilder;
-import org.springframework.batch.item.file.transform.DelimitedLineAggregator;
 import org.springframework.core.io.WritableResource;
 import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.validation.BindException;
@@ -75,10 +74,7 @@ public class FileExportJobTemplate {
 
         builder.name(definition.getStepName() + "Writer")
                 .resource(definition.getResource())
-                .lineAggregator(new DelimitedLineAggregator<T>() {{
-                    setDelimiter(definition.getDelimiter());
-                    setFieldExtractor(new AnnotationFieldExtractor<>(definition.getEntityClass()));
-                }});
+                .lineAggregator(new AnnotationLineAggregator<>(definition.getEntityClass(), definition.getDelimiter()));
 
         // 头生成
         if (definition.getHeaderGenerator() != null) {
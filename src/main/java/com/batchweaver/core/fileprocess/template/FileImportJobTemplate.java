@@ -4,9 +4,13 @@ import com.batchweaver.core.fileprocess.function.FooterParser;
 import com.batchweaver.core.fileprocess.function.FooterValidator;
 import com.batchweaver.core.fileprocess.function.HeaderParser;
 import com.batchweaver.core.fileprocess.function.HeaderValidator;
+import com.batchweaver.core.fileprocess.function.LinePredicate;
 import com.batchweaver.core.fileprocess.listener.UniversalErrorListener;
 import com.batchweaver.core.fileprocess.reader.FooterLineDetector;
 import com.batchweaver.core.fileprocess.reader.HeaderFooterAwareReader;
+import com.batchweaver.core.fileprocess.reader.RecordTypeRouter;
+import com.batchweaver.core.fileprocess.tokenizer.FastDelimitedLineTokenizer;
+import com.batchweaver.core.reader.AnnotationDrivenFieldSetMapper;
 import lombok.Builder;
 import lombok.Data;
 import org.springframework.batch.core.Job;
@@ -24,6 +28,9 @@ import org.springframework.core.io.Resource;
 import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.validation.BindException;
 
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
 /**
  * 文件导入Job构建模板
  * <p>
@@ -54,7 +61,7 @@ public class FileImportJobTemplate {
     public <I, O> Step buildStep(FileImportJobDefinition<I, O> definition) {
         var chunkBuilder = new StepBuilder(definition.getStepName(), definition.getJobRepository())
                 .<I, O>chunk(definition.getChunkSize(), definition.getTransactionManager())
-                .reader(definition.getReader())
+                .reader(resolveReader(definition))
                 .writer(definition.getWriter());
 
         // 可选：Processor
@@ -88,6 +95,77 @@ public class FileImportJobTemplate {
         return chunkBuilder.build();
     }
 
+    /**
+     * 解析Reader：未显式指定时按定义中的资源、头尾处理器、分词器和字符集创建 {@link HeaderFooterAwareReader}
+     * <p>
+     * 指定了 itemType 时，缺省的分词器和映射器由实体类上的 @FileColumn 注解生成：
+     * 分词器只扫描到实体映射的最后一列（列投影，见 {@link FastDelimitedLineTokenizer#forType}）；
+     * 指定了 recordTypeRouter 时按类型前缀路由，一次扫描读出多种记录类型
+     * <p>
+     * linePredicate / charset 只作用于这里创建的 Reader，与显式指定的 reader 同时设置时抛出 IllegalArgumentException
+     */
+    private <I, O> ItemReader<? extends I> resolveReader(FileImportJobDefinition<I, O> definition) {
+        if (definition.getReader() != null) {
+            if (definition.getLinePredicate() != null) {
+                throw new IllegalArgumentException(
+                        "linePredicate only applies to the built reader, configure it on the explicit reader instead: "
+                                + definition.getJobName());
+            }
+            if (!StandardCharsets.UTF_8.equals(definition.getCharset())) {
+                throw new IllegalArgumentException(
+                        "charset only applies to the built reader, configure it on the explicit reader instead: "
+                                + definition.getJobName());
+            }
+            return definition.getReader();
+        }
+        if (definition.getRecordTypeRouter() != null) {
+            if (definition.getResource() == null) {
+                throw new IllegalArgumentException("resource must be provided with recordTypeRouter: " + definition.getJobName());
+            }
+            return configureReader(new HeaderFooterAwareReader<>(
+                    definition.getResource(),
+                    definition.getHeaderParser(),
+                    definition.getHeaderValidator(),
+                    definition.getFooterParser(),
+                    definition.getFooterValidator(),
+                    definition.getRecordTypeRouter()
+            ), definition);
+        }
+        LineTokenizer lineTokenizer = definition.getLineTokenizer();
+        FieldSetMapper<I> fieldSetMapper = definition.getFieldSetMapper();
+        if (definition.getItemType() != null) {
+            if (lineTokenizer == null) {
+                lineTokenizer = FastDelimitedLineTokenizer.forType(definition.getItemType(), definition.getDelimiter());
+            }
+            if (fieldSetMapper == null) {
+                fieldSetMapper = new AnnotationDrivenFieldSetMapper<>(definition.getItemType());
+            }
+        }
+        if (definition.getResource() == null || lineTokenizer == null || fieldSetMapper == null) {
+            throw new IllegalArgumentException(
+                    "Either reader or resource, lineTokenizer (or itemType) and fieldSetMapper (or itemType) must be provided: "
+                            + definition.getJobName());
+        }
+        return configureReader(new HeaderFooterAwareReader<>(
+                definition.getResource(),
+                definition.getHeaderParser(),
+                definition.getHeaderValidator(),
+                definition.getFooterParser(),
+                definition.getFooterValidator(),
+                lineTokenizer,
+                fieldSetMapper
+        ), definition);
+    }
+
+    /**
+     * 应用定义中的字符集与行过滤器
+     */
+    private <I> HeaderFooterAwareReader<I> configureReader(HeaderFooterAwareReader<I> reader, FileImportJobDefinition<I, ?> definition) {
+        reader.setCharset(definition.getCharset());
+        reader.setLinePredicate(definition.getLinePredicate());
+        return reader;
+    }
+
     /**
      * 延迟决策Reader - 基于"单次顺序扫描 + 延迟行确认"模式
      * <p>
@@ -254,6 +332,26 @@ public class FileImportJobTemplate {
         private FooterParser footerParser;
         private FooterValidator footerValidator;
 
+        // 未指定 reader 时用于创建 HeaderFooterAwareReader
+        private LineTokenizer lineTokenizer;
+        private FieldSetMapper<I> fieldSetMapper;
+
+        // 未指定 lineTokenizer / fieldSetMapper 时按 @FileColumn 实体类生成（分词器只扫描映射到的列）
+        private Class<I> itemType;
+
+        @Builder.Default
+        private String delimiter = ",";
+
+        // 多记录类型文件：按类型前缀路由（设置时替代 lineTokenizer / fieldSetMapper / itemType）
+        private RecordTypeRouter<I> recordTypeRouter;
+
+        // 分词前的原始行过滤（被过滤的行单独计数，Footer 按合计校验）；只作用于未指定 reader 时创建的 Reader
+        private LinePredicate linePredicate;
+
+        // 文件字符集；只作用于未指定 reader 时创建的 Reader（与 reader 同时设置非默认值时报错）
+        @Builder.Default
+        private Charset charset = StandardCharsets.UTF_8;
+
         // 性能配置
         @Builder.Default
         private int chunkSize = 1000;
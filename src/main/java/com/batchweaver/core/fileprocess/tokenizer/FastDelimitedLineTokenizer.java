@@ -0,0 +1,250 @@
+package com.batchweaver.core.fileprocess.tokenizer;
+
+import com.batchweaver.core.annotation.FileColumn;
+import org.springframework.batch.item.file.transform.DelimitedLineTokenizer;
+import org.springframework.batch.item.file.transform.FieldSet;
+import org.springframework.batch.item.file.transform.IncorrectTokenCountException;
+import org.springframework.batch.item.file.transform.LineTokenizer;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * 免分配的分隔符分词器
+ * <p>
+ * 替代 Spring 的 {@link DelimitedLineTokenizer}：把字段起止下标写入复用的 int[]，
+ * 返回复用的 {@link FlyweightFieldSet} 视图，不为每一行创建 String[]、每个字段的 String 和 DefaultFieldSet。
+ * <p>
+ * 包含引号字符的行交给内部的 {@link DelimitedLineTokenizer} 处理（去除引号、转义），保证结果一致。
+ * <p>
+ * 列投影（{@link #setIncludedColumns}）：宽文件只映射其中少数几列时，扫描到最后一个需要的列即停止，
+ * 其后的字段不再扫描；列下标保持文件中的原始位置，{@link FileColumn#index()} 无需调整。
+ * 投影后无法得知整行的字段数，严格模式只校验行中至少包含最后一个需要的列。
+ * <p>
+ * <b>注意：</b>返回的 FieldSet 仅在下一次 {@link #tokenize(String)} 之前有效；实例非线程安全，
+ * 每个 Reader 使用独立的分词器。
+ *
+ * <pre>{@code
+ * FastDelimitedLineTokenizer lineTokenizer = new FastDelimitedLineTokenizer();
+ * lineTokenizer.setDelimiter(",");
+ * lineTokenizer.setNames("name", "age", "email", "birthDate");
+ *
+ * // 按实体类上的 @FileColumn 列索引投影
+ * FastDelimitedLineTokenizer projected = FastDelimitedLineTokenizer.forType(PartnerRecord.class, "|");
+ * }</pre>
+ */
+public class FastDelimitedLineTokenizer implements LineTokenizer {
+
+    private String delimiter = DelimitedLineTokenizer.DELIMITER_COMMA;
+    private char quoteCharacter = DelimitedLineTokenizer.DEFAULT_QUOTE_CHARACTER;
+    private String[] names;
+    private boolean strict = true;
+
+    /**
+     * 需要扫描的字段数（最后一个需要的列下标 + 1），未投影时为 {@link Integer#MAX_VALUE}
+     */
+    private int columnLimit = Integer.MAX_VALUE;
+
+    private int[] starts = new int[16];
+    private int[] ends = new int[16];
+    private final FlyweightFieldSet fieldSet = new FlyweightFieldSet();
+
+    /**
+     * 引号行的兜底分词器（按需创建）
+     */
+    private DelimitedLineTokenizer quotedTokenizer;
+
+    /**
+     * 投影后的列名（按需创建）
+     */
+    private String[] projectedNames;
+
+    /**
+     * 设置分隔符（默认逗号）
+     */
+    public void setDelimiter(String delimiter) {
+        if (delimiter == null || delimiter.isEmpty()) {
+            throw new IllegalArgumentException("delimiter must not be empty");
+        }
+        this.delimiter = delimiter;
+        this.quotedTokenizer = null;
+    }
+
+    /**
+     * 设置引号字符（默认双引号）
+     */
+    public void setQuoteCharacter(char quoteCharacter) {
+        this.quoteCharacter = quoteCharacter;
+        this.quotedTokenizer = null;
+    }
+
+    /**
+     * 设置列名（设置后可按名称读取）
+     */
+    public void setNames(String... names) {
+        this.names = names == null || names.length == 0 ? null : names.clone();
+        this.projectedNames = null;
+        this.quotedTokenizer = null;
+    }
+
+    /**
+     * 设置需要读取的列（列投影）
+     * <p>
+     * 只扫描到其中最大的列下标为止；之前未列出的字段仍可读取（只记录下标，不创建字符串）。
+     * 设置了列名时，列名截取到同样的长度。
+     *
+     * @param indices 需要读取的列下标（从 0 开始），为空时取消投影
+     */
+    public void setIncludedColumns(int... indices) {
+        int limit = Integer.MAX_VALUE;
+        if (indices != null && indices.length > 0) {
+            limit = 0;
+            for (int index : indices) {
+                if (index < 0) {
+                    throw new IllegalArgumentException("column index must not be negative: " + index);
+                }
+                limit = Math.max(limit, index + 1);
+            }
+        }
+        this.columnLimit = limit;
+        this.projectedNames = null;
+        this.quotedTokenizer = null;
+    }
+
+    /**
+     * 按实体类上的 {@link FileColumn#index()} 创建投影分词器
+     *
+     * @param type      带 @FileColumn 注解的实体类
+     * @param delimiter 分隔符
+     * @throws IllegalArgumentException 实体类没有 @FileColumn 字段
+     */
+    public static FastDelimitedLineTokenizer forType(Class<?> type, String delimiter) {
+        int[] indices = Arrays.stream(type.getDeclaredFields())
+                .map(field -> field.getAnnotation(FileColumn.class))
+                .filter(Objects::nonNull)
+                .mapToInt(FileColumn::index)
+                .toArray();
+        if (indices.length == 0) {
+            throw new IllegalArgumentException("No @FileColumn fields found in " + type.getName());
+        }
+        FastDelimitedLineTokenizer tokenizer = new FastDelimitedLineTokenizer();
+        tokenizer.setDelimiter(delimiter);
+        tokenizer.setIncludedColumns(indices);
+        return tokenizer;
+    }
+
+    /**
+     * 是否严格校验字段数与列名数一致（默认 true，仅在设置了列名时生效）
+     */
+    public void setStrict(boolean strict) {
+        this.strict = strict;
+        this.quotedTokenizer = null;
+    }
+
+    @Override
+    public FieldSet tokenize(String line) {
+        if (line == null) {
+            line = "";
+        }
+        if (line.indexOf(quoteCharacter) >= 0) {
+            return quotedTokenizer().tokenize(line);
+        }
+
+        int count = delimiter.length() == 1 ? scanSingle(line, delimiter.charAt(0)) : scanMulti(line);
+
+        String[] columnNames = projectedNames();
+        if (columnNames != null) {
+            boolean mismatch = columnLimit == Integer.MAX_VALUE ? count != columnNames.length : count < columnNames.length;
+            if (strict && mismatch) {
+                throw new IncorrectTokenCountException(columnNames.length, count, line);
+            }
+            // 非严格模式下字段数不足时补空字段
+            while (count < columnNames.length) {
+                ensureCapacity(count + 1);
+                starts[count] = line.length();
+                ends[count] = line.length();
+                count++;
+            }
+        }
+        fieldSet.reset(line, starts, ends, columnNames != null ? Math.min(count, columnNames.length) : count, columnNames);
+        return fieldSet;
+    }
+
+    // ============================================================================
+    // 私有辅助方法
+    // ============================================================================
+
+    private int scanSingle(String line, char delim) {
+        int count = 0;
+        int start = 0;
+        int length = line.length();
+        for (int i = 0; i < length; i++) {
+            if (line.charAt(i) == delim) {
+                count = addField(count, start, i);
+                if (count == columnLimit) {
+                    return count;
+                }
+                start = i + 1;
+            }
+        }
+        return addField(count, start, length);
+    }
+
+    private int scanMulti(String line) {
+        int count = 0;
+        int start = 0;
+        int next;
+        while ((next = line.indexOf(delimiter, start)) >= 0) {
+            count = addField(count, start, next);
+            if (count == columnLimit) {
+                return count;
+            }
+            start = next + delimiter.length();
+        }
+        return addField(count, start, line.length());
+    }
+
+    private int addField(int count, int start, int end) {
+        ensureCapacity(count + 1);
+        starts[count] = start;
+        ends[count] = end;
+        return count + 1;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity > starts.length) {
+            int size = Math.max(capacity, starts.length * 2);
+            starts = Arrays.copyOf(starts, size);
+            ends = Arrays.copyOf(ends, size);
+        }
+    }
+
+    /**
+     * 投影后的列名（截取到需要扫描的字段数）
+     */
+    private String[] projectedNames() {
+        if (names == null || names.length <= columnLimit) {
+            return names;
+        }
+        if (projectedNames == null) {
+            projectedNames = Arrays.copyOf(names, columnLimit);
+        }
+        return projectedNames;
+    }
+
+    /**
+     * 引号行完整分词；投影时只要求包含需要的列（与投影后的严格校验一致）
+     */
+    private DelimitedLineTokenizer quotedTokenizer() {
+        if (quotedTokenizer == null) {
+            DelimitedLineTokenizer tokenizer = new DelimitedLineTokenizer(delimiter);
+            tokenizer.setQuoteCharacter(quoteCharacter);
+            tokenizer.setStrict(strict && columnLimit == Integer.MAX_VALUE);
+            if (names != null) {
+                tokenizer.setNames(names);
+            }
+            quotedTokenizer = tokenizer;
+        }
+        return quotedTokenizer;
+    }
+}
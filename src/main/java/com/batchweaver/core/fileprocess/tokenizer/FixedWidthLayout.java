@@ -0,0 +1,128 @@
+package com.batchweaver.core.fileprocess.tokenizer;
+
+import com.batchweaver.core.annotation.FileColumn;
+
+import java.lang.reflect.Field;
+import java.util.Arrays;
+import java.util.TreeSet;
+
+/**
+ * 定长文件列布局
+ * <p>
+ * 由实体类上带 start / length 的 {@link FileColumn} 注解编译而来，每个实体类只编译一次。
+ * 所有列的起止字节位置被合并为一组有序边界，分词时只需对每行做一次顺序扫描即可得到全部列的字符下标。
+ */
+public final class FixedWidthLayout {
+
+    private static final ClassValue<FixedWidthLayout> CACHE = new ClassValue<>() {
+        @Override
+        protected FixedWidthLayout computeValue(Class<?> type) {
+            return compile(type);
+        }
+    };
+
+    /**
+     * 按列索引排列的列名
+     */
+    private final String[] names;
+
+    /**
+     * 升序去重的字节边界（所有列的起止位置）
+     */
+    private final int[] boundaries;
+
+    /**
+     * 每一列的起止位置在 {@link #boundaries} 中的下标
+     */
+    private final int[] startRefs;
+    private final int[] endRefs;
+
+    private FixedWidthLayout(String[] names, int[] boundaries, int[] startRefs, int[] endRefs) {
+        this.names = names;
+        this.boundaries = boundaries;
+        this.startRefs = startRefs;
+        this.endRefs = endRefs;
+    }
+
+    /**
+     * 获取实体类的定长布局（编译结果按类缓存）
+     *
+     * @param type 带 {@link FileColumn}(start, length) 注解的实体类
+     * @return 列布局
+     * @throws IllegalArgumentException 注解缺失或不完整时抛出
+     */
+    public static FixedWidthLayout of(Class<?> type) {
+        return CACHE.get(type);
+    }
+
+    public int getColumnCount() {
+        return names.length;
+    }
+
+    String[] names() {
+        return names;
+    }
+
+    int[] boundaries() {
+        return boundaries;
+    }
+
+    int[] startRefs() {
+        return startRefs;
+    }
+
+    int[] endRefs() {
+        return endRefs;
+    }
+
+    // ============================================================================
+    // 私有辅助方法
+    // ============================================================================
+
+    private static FixedWidthLayout compile(Class<?> type) {
+        Field[] columns = new Field[0];
+        for (Field field : type.getDeclaredFields()) {
+            FileColumn annotation = field.getAnnotation(FileColumn.class);
+            if (annotation == null) {
+                continue;
+            }
+            if (annotation.start() < 0 || annotation.length() <= 0) {
+                throw new IllegalArgumentException("@FileColumn on " + type.getSimpleName() + "." + field.getName()
+                        + " must declare start and length for a fixed-width layout");
+            }
+            int index = annotation.index();
+            if (index >= columns.length) {
+                columns = Arrays.copyOf(columns, index + 1);
+            }
+            if (columns[index] != null) {
+                throw new IllegalArgumentException("Duplicate @FileColumn index " + index + " in " + type.getSimpleName());
+            }
+            columns[index] = field;
+        }
+        if (columns.length == 0) {
+            throw new IllegalArgumentException("No @FileColumn fields found in " + type.getSimpleName());
+        }
+
+        String[] names = new String[columns.length];
+        TreeSet<Integer> boundarySet = new TreeSet<>();
+        for (int i = 0; i < columns.length; i++) {
+            if (columns[i] == null) {
+                throw new IllegalArgumentException("Missing @FileColumn index " + i + " in " + type.getSimpleName());
+            }
+            FileColumn annotation = columns[i].getAnnotation(FileColumn.class);
+            names[i] = annotation.name().isEmpty() ? columns[i].getName() : annotation.name();
+            boundarySet.add(annotation.start());
+            boundarySet.add(annotation.start() + annotation.length());
+        }
+
+        int[] boundaries = boundarySet.stream().mapToInt(Integer::intValue).toArray();
+        int[] startRefs = new int[columns.length];
+        int[] endRefs = new int[columns.length];
+        for (int i = 0; i < columns.length; i++) {
+            FileColumn annotation = columns[i].getAnnotation(FileColumn.class);
+            startRefs[i] = Arrays.binarySearch(boundaries, annotation.start());
+            endRefs[i] = Arrays.binarySearch(boundaries, annotation.start() + annotation.length());
+        }
+        return new FixedWidthLayout(names, boundaries, startRefs, endRefs);
+    }
+}
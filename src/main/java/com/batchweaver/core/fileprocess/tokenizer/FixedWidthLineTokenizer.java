@@ -0,0 +1,146 @@
+package com.batchweaver.core.fileprocess.tokenizer;
+
+import org.springframework.batch.item.file.transform.FieldSet;
+import org.springframework.batch.item.file.transform.LineTokenizer;
+
+import java.nio.CharBuffer;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+
+/**
+ * 定长分词器
+ * <p>
+ * 按 {@link FixedWidthLayout} 预编译的字节边界切分字段：对每行做一次顺序扫描，累加每个字符在文件字符集中的字节宽度，
+ * 把字节位置换算为字符下标，因此 GBK 等双字节字符集下的中文列也能按字节精确切分。
+ * 返回复用的 {@link FlyweightFieldSet}，不使用正则、不创建中间字符串。
+ * <p>
+ * 行比布局短时（如行尾空格被截掉），超出部分的列为空；列边界落在多字节字符中间时，该字符归属于包含其首字节的列。
+ * <p>
+ * <b>注意：</b>返回的 FieldSet 仅在下一次 {@link #tokenize(String)} 之前有效；实例非线程安全。
+ *
+ * <pre>{@code
+ * HeaderFooterAwareReader<AccountRecord> reader = new HeaderFooterAwareReader<>(
+ *         resource, headerParser, null, footerParser, footerValidator,
+ *         FixedWidthLineTokenizer.forType(AccountRecord.class, charset),
+ *         new AnnotationDrivenFieldSetMapper<>(AccountRecord.class));
+ * reader.setCharset(charset);
+ * }</pre>
+ */
+public class FixedWidthLineTokenizer implements LineTokenizer {
+
+    private final FixedWidthLayout layout;
+    private final boolean utf8;
+    private final CharsetEncoder encoder;
+
+    /**
+     * 非 ASCII 字符的字节宽度缓存（0 表示尚未计算）
+     */
+    private byte[] widths;
+
+    private final int[] boundaryChars;
+    private final int[] starts;
+    private final int[] ends;
+    private final FlyweightFieldSet fieldSet = new FlyweightFieldSet();
+
+    /**
+     * @param layout  列布局
+     * @param charset 文件字符集（必须与 Reader 的字符集一致）
+     */
+    public FixedWidthLineTokenizer(FixedWidthLayout layout, Charset charset) {
+        this.layout = Objects.requireNonNull(layout, "layout must not be null");
+        Objects.requireNonNull(charset, "charset must not be null");
+        this.utf8 = StandardCharsets.UTF_8.equals(charset);
+        this.encoder = utf8 ? null : charset.newEncoder();
+        this.boundaryChars = new int[layout.boundaries().length];
+        this.starts = new int[layout.getColumnCount()];
+        this.ends = new int[layout.getColumnCount()];
+    }
+
+    /**
+     * 按实体类上的 {@link com.batchweaver.core.annotation.FileColumn}(start, length) 创建分词器
+     */
+    public static FixedWidthLineTokenizer forType(Class<?> type, Charset charset) {
+        return new FixedWidthLineTokenizer(FixedWidthLayout.of(type), charset);
+    }
+
+    @Override
+    public FieldSet tokenize(String line) {
+        if (line == null) {
+            line = "";
+        }
+        int[] boundaries = layout.boundaries();
+        int length = line.length();
+        int charIndex = 0;
+        int byteOffset = 0;
+        for (int k = 0; k < boundaries.length; k++) {
+            int boundary = boundaries[k];
+            while (byteOffset < boundary && charIndex < length) {
+                char c = line.charAt(charIndex);
+                if (c < 0x80) {
+                    byteOffset++;
+                    charIndex++;
+                } else if (Character.isHighSurrogate(c) && charIndex + 1 < length) {
+                    byteOffset += pairWidth(c, line.charAt(charIndex + 1));
+                    charIndex += 2;
+                } else {
+                    byteOffset += width(c);
+                    charIndex++;
+                }
+            }
+            boundaryChars[k] = charIndex;
+        }
+
+        int[] startRefs = layout.startRefs();
+        int[] endRefs = layout.endRefs();
+        for (int i = 0; i < starts.length; i++) {
+            starts[i] = boundaryChars[startRefs[i]];
+            ends[i] = boundaryChars[endRefs[i]];
+        }
+        fieldSet.reset(line, starts, ends, starts.length, layout.names());
+        return fieldSet;
+    }
+
+    // ============================================================================
+    // 私有辅助方法
+    // ============================================================================
+
+    /**
+     * 非 ASCII 的 BMP 字符在文件字符集中的字节宽度
+     */
+    private int width(char c) {
+        if (utf8) {
+            return c < 0x800 ? 2 : 3;
+        }
+        if (widths == null) {
+            widths = new byte[Character.MAX_VALUE + 1];
+        }
+        int width = widths[c];
+        if (width == 0) {
+            width = encodedLength(String.valueOf(c));
+            widths[c] = (byte) width;
+        }
+        return width;
+    }
+
+    /**
+     * 代理对（增补字符）在文件字符集中的字节宽度
+     */
+    private int pairWidth(char high, char low) {
+        if (utf8) {
+            return 4;
+        }
+        return encodedLength(new String(new char[]{high, low}));
+    }
+
+    private int encodedLength(String chars) {
+        try {
+            return encoder.reset().encode(CharBuffer.wrap(chars)).remaining();
+        } catch (CharacterCodingException e) {
+            // 无法编码的字符按替换字符（单字节 '?'）计算
+            return 1;
+        }
+    }
+}
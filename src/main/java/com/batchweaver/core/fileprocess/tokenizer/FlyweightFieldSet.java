@@ -0,0 +1,449 @@
+package com.batchweaver.core.fileprocess.tokenizer;
+
+import com.batchweaver.core.converter.CharSequenceParsers;
+import org.springframework.batch.item.file.transform.FieldSet;
+
+import java.math.BigDecimal;
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.Properties;
+
+/**
+ * 轻量级 FieldSet（享元）
+ * <p>
+ * 只记录每个字段在行内的起止下标，不预先切分字符串；只有真正读取某一列时才创建 String。
+ * {@link #readInt}、{@link #readLong}、{@link #readBigDecimal} 通过 {@link CharSequenceParsers} 直接从字符解析，不创建中间字符串。
+ * <p>
+ * 字符串和日期与 {@link org.springframework.batch.item.file.transform.DefaultFieldSet} 保持一致：
+ * readString 返回去除首尾空白的值，readRawString 返回原始值，默认日期格式为 yyyy-MM-dd。
+ * <p>
+ * 数值统一按 Java 的严格语法解析（与 {@code Integer.valueOf} / {@code new BigDecimal} 以及 MappingPlan 相同）：
+ * 不接受分组分隔符，{@code 1,234.50} 抛出 NumberFormatException。
+ * 这一点与 DefaultFieldSet 不同（它的 readBigDecimal 会移除分组分隔符，readInt / readLong 不会）。
+ * <p>
+ * <b>注意：</b>实例由分词器复用，仅在下一次 tokenize 之前有效，不能跨行保存。
+ */
+public final class FlyweightFieldSet implements FieldSet {
+
+    private static final String DEFAULT_DATE_PATTERN = "yyyy-MM-dd";
+
+    private String line;
+    private int[] starts;
+    private int[] ends;
+    private int count;
+    private String[] names;
+
+    private SimpleDateFormat defaultDateFormat;
+
+    FlyweightFieldSet() {
+    }
+
+    /**
+     * 指向新的一行
+     *
+     * @param line   行内容
+     * @param starts 每个字段的起始下标
+     * @param ends   每个字段的结束下标（不含）
+     * @param count  字段数
+     * @param names  列名（可为 null）
+     */
+    void reset(String line, int[] starts, int[] ends, int count, String[] names) {
+        this.line = line;
+        this.starts = starts;
+        this.ends = ends;
+        this.count = count;
+        this.names = names;
+    }
+
+    // ============================================================================
+    // 元数据
+    // ============================================================================
+
+    @Override
+    public String[] getNames() {
+        if (names == null) {
+            throw new IllegalStateException("Field names are not known");
+        }
+        return names.clone();
+    }
+
+    @Override
+    public boolean hasNames() {
+        return names != null;
+    }
+
+    @Override
+    public String[] getValues() {
+        String[] values = new String[count];
+        for (int i = 0; i < count; i++) {
+            values[i] = readRawString(i);
+        }
+        return values;
+    }
+
+    @Override
+    public int getFieldCount() {
+        return count;
+    }
+
+    @Override
+    public Properties getProperties() {
+        if (names == null) {
+            throw new IllegalStateException("Cannot create properties without meta data");
+        }
+        Properties props = new Properties();
+        for (int i = 0; i < count; i++) {
+            props.setProperty(names[i], readString(i));
+        }
+        return props;
+    }
+
+    // ============================================================================
+    // 字符串
+    // ============================================================================
+
+    @Override
+    public String readString(int index) {
+        checkIndex(index);
+        int start = trimStart(index);
+        int end = trimEnd(index, start);
+        return line.substring(start, end);
+    }
+
+    @Override
+    public String readString(String name) {
+        return readString(indexOf(name));
+    }
+
+    @Override
+    public String readRawString(int index) {
+        checkIndex(index);
+        return line.substring(starts[index], ends[index]);
+    }
+
+    @Override
+    public String readRawString(String name) {
+        return readRawString(indexOf(name));
+    }
+
+    @Override
+    public char readChar(int index) {
+        checkIndex(index);
+        int start = trimStart(index);
+        int end = trimEnd(index, start);
+        if (end - start != 1) {
+            throw new IllegalArgumentException("Cannot convert field value '" + line.substring(start, end) + "' to char.");
+        }
+        return line.charAt(start);
+    }
+
+    @Override
+    public char readChar(String name) {
+        return readChar(indexOf(name));
+    }
+
+    // ============================================================================
+    // 布尔
+    // ============================================================================
+
+    @Override
+    public boolean readBoolean(int index) {
+        return readBoolean(index, "true");
+    }
+
+    @Override
+    public boolean readBoolean(String name) {
+        return readBoolean(indexOf(name));
+    }
+
+    @Override
+    public boolean readBoolean(int index, String trueValue) {
+        checkIndex(index);
+        int start = trimStart(index);
+        int end = trimEnd(index, start);
+        return end - start == trueValue.length() && line.startsWith(trueValue, start);
+    }
+
+    @Override
+    public boolean readBoolean(String name, String trueValue) {
+        return readBoolean(indexOf(name), trueValue);
+    }
+
+    // ============================================================================
+    // 整数（直接从字符解析）
+    // ============================================================================
+
+    @Override
+    public byte readByte(int index) {
+        long value = readLong(index);
+        if (value < Byte.MIN_VALUE || value > Byte.MAX_VALUE) {
+            throw numberFormatException(index);
+        }
+        return (byte) value;
+    }
+
+    @Override
+    public byte readByte(String name) {
+        return readByte(indexOf(name));
+    }
+
+    @Override
+    public short readShort(int index) {
+        long value = readLong(index);
+        if (value < Short.MIN_VALUE || value > Short.MAX_VALUE) {
+            throw numberFormatException(index);
+        }
+        return (short) value;
+    }
+
+    @Override
+    public short readShort(String name) {
+        return readShort(indexOf(name));
+    }
+
+    @Override
+    public int readInt(int index) {
+        long value = readLong(index);
+        if (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE) {
+            throw numberFormatException(index);
+        }
+        return (int) value;
+    }
+
+    @Override
+    public int readInt(String name) {
+        return readInt(indexOf(name));
+    }
+
+    @Override
+    public int readInt(int index, int defaultValue) {
+        return isBlank(index) ? defaultValue : readInt(index);
+    }
+
+    @Override
+    public int readInt(String name, int defaultValue) {
+        return readInt(indexOf(name), defaultValue);
+    }
+
+    @Override
+    public long readLong(int index) {
+        checkIndex(index);
+        int start = trimStart(index);
+        int end = trimEnd(index, start);
+        try {
+            return CharSequenceParsers.parseLong(line, start, end);
+        } catch (NumberFormatException e) {
+            throw numberFormatException(index);
+        }
+    }
+
+    @Override
+    public long readLong(String name) {
+        return readLong(indexOf(name));
+    }
+
+    @Override
+    public long readLong(int index, long defaultValue) {
+        return isBlank(index) ? defaultValue : readLong(index);
+    }
+
+    @Override
+    public long readLong(String name, long defaultValue) {
+        return readLong(indexOf(name), defaultValue);
+    }
+
+    // ============================================================================
+    // 浮点数 / 定点数
+    // ============================================================================
+
+    @Override
+    public float readFloat(int index) {
+        return Float.parseFloat(readString(index));
+    }
+
+    @Override
+    public float readFloat(String name) {
+        return readFloat(indexOf(name));
+    }
+
+    @Override
+    public double readDouble(int index) {
+        return Double.parseDouble(readString(index));
+    }
+
+    @Override
+    public double readDouble(String name) {
+        return readDouble(indexOf(name));
+    }
+
+    @Override
+    public BigDecimal readBigDecimal(int index) {
+        return readBigDecimal(index, null);
+    }
+
+    @Override
+    public BigDecimal readBigDecimal(String name) {
+        return readBigDecimal(indexOf(name));
+    }
+
+    @Override
+    public BigDecimal readBigDecimal(int index, BigDecimal defaultValue) {
+        checkIndex(index);
+        int start = trimStart(index);
+        int end = trimEnd(index, start);
+        if (start == end) {
+            return defaultValue;
+        }
+        try {
+            return CharSequenceParsers.parseDecimal(line, start, end);
+        } catch (NumberFormatException e) {
+            throw numberFormatException(index);
+        }
+    }
+
+    @Override
+    public BigDecimal readBigDecimal(String name, BigDecimal defaultValue) {
+        return readBigDecimal(indexOf(name), defaultValue);
+    }
+
+    // ============================================================================
+    // 日期
+    // ============================================================================
+
+    @Override
+    public Date readDate(int index) {
+        if (defaultDateFormat == null) {
+            defaultDateFormat = new SimpleDateFormat(DEFAULT_DATE_PATTERN);
+            defaultDateFormat.setLenient(false);
+        }
+        return parseDate(readString(index), defaultDateFormat);
+    }
+
+    @Override
+    public Date readDate(String name) {
+        return readDate(indexOf(name));
+    }
+
+    @Override
+    public Date readDate(int index, Date defaultValue) {
+        return isBlank(index) ? defaultValue : readDate(index);
+    }
+
+    @Override
+    public Date readDate(String name, Date defaultValue) {
+        return readDate(indexOf(name), defaultValue);
+    }
+
+    @Override
+    public Date readDate(int index, String pattern) {
+        SimpleDateFormat format = new SimpleDateFormat(pattern);
+        format.setLenient(false);
+        return parseDate(readString(index), format);
+    }
+
+    @Override
+    public Date readDate(String name, String pattern) {
+        return readDate(indexOf(name), pattern);
+    }
+
+    @Override
+    public Date readDate(int index, String pattern, Date defaultValue) {
+        return isBlank(index) ? defaultValue : readDate(index, pattern);
+    }
+
+    @Override
+    public Date readDate(String name, String pattern, Date defaultValue) {
+        return readDate(indexOf(name), pattern, defaultValue);
+    }
+
+    @Override
+    public String toString() {
+        return names != null ? getProperties().toString() : Arrays.toString(getValues());
+    }
+
+    // ============================================================================
+    // 私有辅助方法
+    // ============================================================================
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= count) {
+            throw new IndexOutOfBoundsException("Field index " + index + " out of range, field count: " + count);
+        }
+    }
+
+    private int indexOf(String name) {
+        if (names == null) {
+            throw new IllegalArgumentException("Cannot access columns by name without meta data");
+        }
+        for (int i = 0; i < names.length; i++) {
+            if (names[i].equals(name)) {
+                return i;
+            }
+        }
+        throw new IllegalArgumentException("Cannot access column [" + name + "] from " + Arrays.toString(names));
+    }
+
+    private int trimStart(int index) {
+        int start = starts[index];
+        int end = ends[index];
+        while (start < end && line.charAt(start) <= ' ') {
+            start++;
+        }
+        return start;
+    }
+
+    private int trimEnd(int index, int trimmedStart) {
+        int end = ends[index];
+        while (end > trimmedStart && line.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        return end;
+    }
+
+    /**
+     * 当前行内容（配合 {@link #trimmedStart} / {@link #trimmedEnd} 做区间解析）
+     */
+    public String line() {
+        return line;
+    }
+
+    /**
+     * 字段去除前导空白后的起始下标
+     */
+    public int trimmedStart(int index) {
+        checkIndex(index);
+        return trimStart(index);
+    }
+
+    /**
+     * 字段去除尾部空白后的结束下标（不含）
+     *
+     * @param trimmedStart {@link #trimmedStart} 的返回值
+     */
+    public int trimmedEnd(int index, int trimmedStart) {
+        return trimEnd(index, trimmedStart);
+    }
+
+    /**
+     * 字段去除首尾空白后是否为空（不创建字符串）
+     */
+    public boolean isBlank(int index) {
+        checkIndex(index);
+        int start = trimStart(index);
+        return trimEnd(index, start) == start;
+    }
+
+    private NumberFormatException numberFormatException(int index) {
+        return new NumberFormatException("Unparseable number: " + readString(index));
+    }
+
+    private static Date parseDate(String value, SimpleDateFormat format) {
+        try {
+            return format.parse(value);
+        } catch (ParseException e) {
+            throw new IllegalArgumentException(e.getMessage() + ", format: [" + format.toPattern() + "]", e);
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.batchweaver.core.fileprocess.writer;
 
 import com.batchweaver.core.annotation.FileColumn;
+import com.batchweaver.core.annotation.GeneratedFileColumnClasses;
 import org.springframework.batch.item.file.transform.FieldExtractor;
 
 import java.lang.reflect.Field;
@@ -13,15 +14,19 @@ import java.util.Date;
  * 基于注解的字段提取器
  * <p>
  * 根据@FileColumn注解的order属性，按顺序提取字段值
+ * <p>
+ * 存在编译期生成的 {@code <Entity>_FieldExtractor} 时直接委托给它（无反射）
  */
 public class AnnotationFieldExtractor<T> implements FieldExtractor<T> {
 
     private final Class<T> targetType;
     private final Field[] sortedFields;
+    private final FieldExtractor<T> generatedExtractor;
 
     public AnnotationFieldExtractor(Class<T> targetType) {
         this.targetType = targetType;
-        this.sortedFields = Arrays.stream(targetType.getDeclaredFields())
+        this.generatedExtractor = GeneratedFileColumnClasses.fieldExtractor(targetType).orElse(null);
+        this.sortedFields = generatedExtractor != null ? new Field[0] : Arrays.stream(targetType.getDeclaredFields())
                 .filter(f -> f.isAnnotationPresent(FileColumn.class))
                 .sorted(Comparator.comparingInt(f -> f.getAnnotation(FileColumn.class).index()))
                 .toArray(Field[]::new);
@@ -29,6 +34,9 @@ public class AnnotationFieldExtractor<T> implements FieldExtractor<T> {
 
     @Override
     public Object[] extract(T item) {
+        if (generatedExtractor != null) {
+            return generatedExtractor.extract(item);
+        }
         Object[] values = new Object[sortedFields.length];
 
         for (int i = 0; i < sortedFields.length; i++) {
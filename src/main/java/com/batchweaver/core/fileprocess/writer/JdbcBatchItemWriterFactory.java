@@ -1,6 +1,5 @@
 package com.batchweaver.core.fileprocess.writer;
 
-import org.springframework.batch.item.database.BeanPropertyItemSqlParameterSourceProvider;
 import org.springframework.batch.item.database.JdbcBatchItemWriter;
 import org.springframework.batch.item.database.builder.JdbcBatchItemWriterBuilder;
 
@@ -10,6 +9,9 @@ import javax.sql.DataSource;
  * JdbcBatchItemWriter工厂
  * <p>
  * 提供批量写入优化配置
+ * <p>
+ * 命名参数 SQL 由 {@link PreparedStatementBinder} 预编译为位置参数，逐行按字段类型直接绑定
+ * （不创建 SqlParameterSource，不重复解析 SQL）
  */
 public class JdbcBatchItemWriterFactory {
 
@@ -17,33 +19,61 @@ public class JdbcBatchItemWriterFactory {
      * 创建批量写入器
      *
      * @param dataSource 数据源
-     * @param sql        SQL语句
+     * @param sql        SQL语句（命名参数，参数名对应实体字段）
      * @param itemType   实体类型
      * @param <T>        实体类型
      * @return JdbcBatchItemWriter
      */
     public static <T> JdbcBatchItemWriter<T> create(DataSource dataSource, String sql, Class<T> itemType) {
+        PreparedStatementBinder<T> binder = PreparedStatementBinder.of(itemType, sql);
         return new JdbcBatchItemWriterBuilder<T>()
                 .dataSource(dataSource)
-                .sql(sql)
-                .itemSqlParameterSourceProvider(new BeanPropertyItemSqlParameterSourceProvider<>())
+                .sql(binder.getSql())
+                .itemPreparedStatementSetter(binder)
                 .assertUpdates(false)  // 不强制校验更新数量（提升性能）
                 .build();
     }
 
     /**
-     * 创建批量写入器（带批量大小配置）
+     * 创建 SQL Server 批量复制写入器（非 SQL Server 连接时降级为 JDBC batch INSERT）
+     *
+     * @param dataSource 数据源
+     * @param tableName  目标表名
+     * @param itemType   实体类型（按 @FileColumn 字段匹配目标列）
+     * @param <T>        实体类型
+     * @return SqlServerBulkCopyItemWriter
+     */
+    public static <T> SqlServerBulkCopyItemWriter<T> createBulkCopy(DataSource dataSource, String tableName, Class<T> itemType) {
+        return new SqlServerBulkCopyItemWriter<>(dataSource, tableName, itemType);
+    }
+
+    /**
+     * 创建多行 VALUES 批量插入写入器（每条 INSERT 插入多行，受 2100 参数上限约束）
      *
      * @param dataSource 数据源
-     * @param sql        SQL语句
+     * @param tableName  目标表名
+     * @param itemType   实体类型（按 @FileColumn 字段匹配目标列）
+     * @param <T>        实体类型
+     * @return MultiRowInsertItemWriter
+     */
+    public static <T> MultiRowInsertItemWriter<T> createMultiRowInsert(DataSource dataSource, String tableName, Class<T> itemType) {
+        return new MultiRowInsertItemWriter<>(dataSource, tableName, itemType);
+    }
+
+    /**
+     * 创建分批写入器：chunk 按 batchSize 切成多个驱动批次，上一批执行时绑定下一批
+     * <p>
+     * 适合很大的提交间隔（如 50000），单次 executeBatch 不超过 batchSize 行
+     *
+     * @param dataSource 数据源
+     * @param sql        SQL语句（命名参数，参数名对应实体字段）
      * @param itemType   实体类型
-     * @param batchSize  批量大小（建议1000）
+     * @param batchSize  每个驱动批次的行数（建议1000）
      * @param <T>        实体类型
-     * @return JdbcBatchItemWriter
+     * @return PipelinedBatchItemWriter
      */
-    public static <T> JdbcBatchItemWriter<T> create(DataSource dataSource, String sql, Class<T> itemType, int batchSize) {
-        JdbcBatchItemWriter<T> writer = create(dataSource, sql, itemType);
-        // 注意：JdbcBatchItemWriter的批量大小由chunk size控制，这里只是示例
-        return writer;
+    public static <T> PipelinedBatchItemWriter<T> create(DataSource dataSource, String sql, Class<T> itemType, int batchSize) {
+        PreparedStatementBinder<T> binder = PreparedStatementBinder.of(itemType, sql);
+        return new PipelinedBatchItemWriter<>(dataSource, binder.getSql(), binder, batchSize);
     }
 }
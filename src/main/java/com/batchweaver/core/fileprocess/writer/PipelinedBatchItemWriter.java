@@ -0,0 +1,201 @@
+package com.batchweaver.core.fileprocess.writer;
+
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.batch.item.database.ItemPreparedStatementSetter;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 分批流水线 JDBC 写入器
+ * <p>
+ * 把一个 chunk 按 batchSize 切成多个驱动批次，使 chunk（提交间隔）可以设得很大（如 50000）以减少提交次数，
+ * 而单次 executeBatch 的行数和驱动缓冲的内存保持在 batchSize 以内：
+ * <ul>
+ *   <li>流水线 - 两个 PreparedStatement 交替使用，上一批的 executeBatch 在后台线程执行时，
+ *       当前线程把下一批绑定到另一个语句上；同一时刻连接上最多只有一个批次在执行</li>
+ *   <li>事务 - 通过 {@link DataSourceUtils} 获取连接，所有批次在 Step 的 DataSourceTransactionManager 事务内执行，
+ *       任一批次失败时等待在途批次结束后抛出，由 chunk 回滚</li>
+ *   <li>异常 - SQLException 按数据源的错误码转换为 Spring DataAccessException（如 DuplicateKeyException），
+ *       与 JdbcBatchItemWriter 一致，Step 的 skip / retry 策略不受影响</li>
+ * </ul>
+ * chunk 不超过 batchSize 时直接在当前线程执行，与普通 JDBC batch 相同。
+ *
+ * <pre>{@code
+ * PreparedStatementBinder<DemoUser> binder = PreparedStatementBinder.of(DemoUser.class, sql);
+ * PipelinedBatchItemWriter<DemoUser> writer = new PipelinedBatchItemWriter<>(dataSource2, binder.getSql(), binder, 1000);
+ * }</pre>
+ *
+ * @param <T> 实体类型
+ */
+public class PipelinedBatchItemWriter<T> implements ItemWriter<T> {
+
+    /**
+     * 默认后台线程的空闲回收时间（秒）
+     */
+    private static final long IDLE_SECONDS = 60;
+
+    private final DataSource dataSource;
+    private final String sql;
+    private final ItemPreparedStatementSetter<? super T> setter;
+    private final int batchSize;
+    private final WriterExceptionTranslator exceptionTranslator;
+
+    /**
+     * 执行 executeBatch 的后台线程（默认每个写入器一个线程，空闲时回收）
+     */
+    private AsyncTaskExecutor taskExecutor = defaultTaskExecutor();
+
+    /**
+     * @param dataSource 数据源（与 Step 的 DataSourceTransactionManager 使用同一个）
+     * @param sql        位置参数 SQL
+     * @param setter     参数绑定
+     * @param batchSize  每个驱动批次的行数
+     */
+    public PipelinedBatchItemWriter(DataSource dataSource, String sql, ItemPreparedStatementSetter<? super T> setter,
+                                    int batchSize) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("batchSize must be positive: " + batchSize);
+        }
+        this.dataSource = Objects.requireNonNull(dataSource, "dataSource must not be null");
+        this.sql = Objects.requireNonNull(sql, "sql must not be null");
+        this.setter = Objects.requireNonNull(setter, "setter must not be null");
+        this.batchSize = batchSize;
+        this.exceptionTranslator = new WriterExceptionTranslator(dataSource);
+    }
+
+    /**
+     * 执行 executeBatch 的线程池（默认每个写入器独占一个后台线程；同一时刻最多一个批次在执行，一个线程即可）
+     */
+    public void setTaskExecutor(AsyncTaskExecutor taskExecutor) {
+        this.taskExecutor = Objects.requireNonNull(taskExecutor, "taskExecutor must not be null");
+    }
+
+    @Override
+    public void write(Chunk<? extends T> chunk) throws Exception {
+        List<? extends T> items = chunk.getItems();
+        if (items.isEmpty()) {
+            return;
+        }
+        Connection connection = DataSourceUtils.getConnection(dataSource);
+        try {
+            if (items.size() <= batchSize) {
+                try (PreparedStatement statement = connection.prepareStatement(sql)) {
+                    bind(statement, items, 0, items.size());
+                    statement.executeBatch();
+                }
+            } else {
+                writePipelined(connection, items);
+            }
+        } catch (SQLException e) {
+            throw exceptionTranslator.translate("PipelinedBatchItemWriter", sql, e);
+        } finally {
+            DataSourceUtils.releaseConnection(connection, dataSource);
+        }
+    }
+
+    // ============================================================================
+    // 流水线
+    // ============================================================================
+
+    private void writePipelined(Connection connection, List<? extends T> items) throws SQLException {
+        try (PreparedStatement first = connection.prepareStatement(sql);
+             PreparedStatement second = connection.prepareStatement(sql)) {
+            PreparedStatement[] statements = {first, second};
+            Future<int[]> inFlight = null;
+            try {
+                int current = 0;
+                for (int from = 0; from < items.size(); from += batchSize) {
+                    PreparedStatement statement = statements[current];
+                    // 该语句上一次的执行已在提交前一批之前等待完成
+                    bind(statement, items, from, Math.min(from + batchSize, items.size()));
+                    if (inFlight != null) {
+                        await(inFlight);
+                    }
+                    inFlight = taskExecutor.submit(statement::executeBatch);
+                    current ^= 1;
+                }
+                await(inFlight);
+            } finally {
+                if (inFlight != null && !inFlight.isDone()) {
+                    // 绑定失败或等待被中断时，不能在批次执行中关闭语句和释放连接
+                    awaitUninterruptibly(inFlight);
+                }
+            }
+        }
+    }
+
+    /**
+     * 单线程、有界队列的默认线程池：同一时刻最多一个批次在执行；线程为守护线程，空闲后回收，无需显式关闭。
+     * 多个线程共用一个写入器导致队列已满时，由提交线程同步执行该批次
+     */
+    private static AsyncTaskExecutor defaultTaskExecutor() {
+        AtomicInteger sequence = new AtomicInteger();
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(1, 1, IDLE_SECONDS, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(1), runnable -> {
+            Thread thread = new Thread(runnable, "jdbc-batch-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }, new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.allowCoreThreadTimeOut(true);
+        return new TaskExecutorAdapter(executor);
+    }
+
+    private void bind(PreparedStatement statement, List<? extends T> items, int from, int to) throws SQLException {
+        for (int i = from; i < to; i++) {
+            setter.setValues(items.get(i), statement);
+            statement.addBatch();
+        }
+    }
+
+    private static void await(Future<int[]> batch) throws SQLException {
+        try {
+            batch.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Interrupted while waiting for executeBatch", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof SQLException sqlException) {
+                throw sqlException;
+            }
+            throw new SQLException("executeBatch failed", e.getCause());
+        }
+    }
+
+    /**
+     * 等待批次结束，不响应中断（中断标记在返回前恢复），批次的异常忽略（原始异常已在抛出中）
+     */
+    private static void awaitUninterruptibly(Future<int[]> batch) {
+        boolean interrupted = Thread.interrupted();
+        try {
+            while (true) {
+                try {
+                    batch.get();
+                    return;
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                } catch (ExecutionException ignored) {
+                    return;
+                }
+            }
+        } finally {
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
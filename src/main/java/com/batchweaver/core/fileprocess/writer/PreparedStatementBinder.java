@@ -0,0 +1,274 @@
+package com.batchweaver.core.fileprocess.writer;
+
+import com.batchweaver.core.annotation.FileColumn;
+import com.batchweaver.core.annotation.FieldParameterBinder;
+import com.batchweaver.core.annotation.FileColumnNames;
+import com.batchweaver.core.annotation.GeneratedFileColumnClasses;
+import org.springframework.batch.item.database.ItemPreparedStatementSetter;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.SqlParameter;
+import org.springframework.jdbc.core.SqlTypeValue;
+import org.springframework.jdbc.core.StatementCreatorUtils;
+import org.springframework.jdbc.core.namedparam.EmptySqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterUtils;
+import org.springframework.jdbc.core.namedparam.ParsedSql;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Date;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 预编译的位置参数绑定器
+ * <p>
+ * 替代逐行创建 {@code MapSqlParameterSource} / {@code BeanPropertyItemSqlParameterSourceProvider}：
+ * 命名参数 SQL（{@code :name}）每个实体类 + SQL 只解析一次，改写为位置参数（{@code ?}）；
+ * 每个参数预先绑定到字段的 getter MethodHandle 和按字段类型选定的类型化 setter
+ * （setInt / setLong / setString / setTimestamp 等，基本类型不装箱），绑定每一行时没有 Map、按名查找和反射。
+ * <p>
+ * 实体存在编译期生成的 {@code <Entity>_ParameterBinder} 时直接使用它的 getter 调用和类型化 setter（无反射）。
+ * <p>
+ * 参数名按字段名匹配，其次按 @FileColumn 字段的 {@link FileColumnNames} 候选名（不区分大小写）匹配；
+ * java.util.Date 与 {@code MapSqlParameterSource} 一致按 TIMESTAMP 绑定。
+ * 绑定器无状态，线程安全，按实体类 + SQL 缓存。
+ *
+ * <pre>{@code
+ * PreparedStatementBinder<DemoUser> binder = PreparedStatementBinder.of(DemoUser.class,
+ *         "INSERT INTO DEMO_USER (name, email, birth_date) VALUES (:name, :email, :birthDate)");
+ * jdbcTemplate.batchUpdate(binder.getSql(), binder.batchSetter(users));
+ * }</pre>
+ *
+ * @param <T> 实体类型
+ */
+public final class PreparedStatementBinder<T> implements ItemPreparedStatementSetter<T> {
+
+    private static final ClassValue<Map<String, PreparedStatementBinder<?>>> CACHE = new ClassValue<>() {
+        @Override
+        protected Map<String, PreparedStatementBinder<?>> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    private final String sql;
+    private final ParameterBinding[] bindings;
+
+    private PreparedStatementBinder(String sql, ParameterBinding[] bindings) {
+        this.sql = sql;
+        this.bindings = bindings;
+    }
+
+    /**
+     * 获取实体类 + 命名参数 SQL 的绑定器（首次调用时解析并缓存）
+     *
+     * @param type     实体类型
+     * @param namedSql 命名参数 SQL，参数名对应实体字段
+     * @throws IllegalArgumentException SQL 不含命名参数，或参数没有对应的字段
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> PreparedStatementBinder<T> of(Class<T> type, String namedSql) {
+        return (PreparedStatementBinder<T>) CACHE.get(type).computeIfAbsent(namedSql, sql -> compile(type, sql));
+    }
+
+    /**
+     * 位置参数形式的 SQL
+     */
+    public String getSql() {
+        return sql;
+    }
+
+    @Override
+    public void setValues(T item, PreparedStatement ps) throws SQLException {
+        for (int i = 0; i < bindings.length; i++) {
+            try {
+                bindings[i].bind(ps, i + 1, item);
+            } catch (SQLException | RuntimeException e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new SQLException("Failed to bind parameter " + (i + 1), e);
+            }
+        }
+    }
+
+    /**
+     * 批量更新用的 setter（配合 {@code JdbcTemplate.batchUpdate(getSql(), ...)}）
+     */
+    public BatchPreparedStatementSetter batchSetter(List<? extends T> items) {
+        return new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                PreparedStatementBinder.this.setValues(items.get(i), ps);
+            }
+
+            @Override
+            public int getBatchSize() {
+                return items.size();
+            }
+        };
+    }
+
+    // ============================================================================
+    // 预编译
+    // ============================================================================
+
+    private static <T> PreparedStatementBinder<T> compile(Class<T> type, String namedSql) {
+        ParsedSql parsed = NamedParameterUtils.parseSqlStatement(namedSql);
+        List<SqlParameter> parameters = NamedParameterUtils.buildSqlParameterList(parsed, EmptySqlParameterSource.INSTANCE);
+        if (parameters.isEmpty()) {
+            throw new IllegalArgumentException("SQL has no named parameters: " + namedSql);
+        }
+        String sql = NamedParameterUtils.parseSqlStatementIntoString(namedSql);
+        Optional<FieldParameterBinder<T>> generated = GeneratedFileColumnClasses.parameterBinder(type);
+        if (generated.isPresent()) {
+            ParameterBinding[] bindings = generatedBindings(generated.get(), parameters);
+            if (bindings != null) {
+                return new PreparedStatementBinder<>(sql, bindings);
+            }
+        }
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(type, MethodHandles.lookup());
+            ParameterBinding[] bindings = new ParameterBinding[parameters.size()];
+            for (int i = 0; i < bindings.length; i++) {
+                Field field = findField(type, parameters.get(i).getName());
+                bindings[i] = binding(field, lookup.unreflectGetter(field));
+            }
+            return new PreparedStatementBinder<>(sql, bindings);
+        } catch (IllegalAccessException e) {
+            throw new IllegalArgumentException("Cannot access fields of " + type.getName(), e);
+        }
+    }
+
+    /**
+     * 使用编译期生成的绑定器（无反射）
+     *
+     * @return 有参数不是 @FileColumn 字段（生成类无法解析）时返回 null，由调用方退化为 MethodHandle 绑定
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> ParameterBinding[] generatedBindings(FieldParameterBinder<T> generated, List<SqlParameter> parameters) {
+        ParameterBinding[] bindings = new ParameterBinding[parameters.size()];
+        for (int i = 0; i < bindings.length; i++) {
+            int field = generated.fieldIndex(parameters.get(i).getName());
+            if (field < 0) {
+                return null;
+            }
+            bindings[i] = (ps, index, item) -> generated.bind(ps, index, (T) item, field);
+        }
+        return bindings;
+    }
+
+    private static Field findField(Class<?> type, String parameter) {
+        String lower = parameter.toLowerCase(Locale.ROOT);
+        Field candidate = null;
+        for (Class<?> current = type; current != null && current != Object.class; current = current.getSuperclass()) {
+            for (Field field : current.getDeclaredFields()) {
+                if (Modifier.isStatic(field.getModifiers())) {
+                    continue;
+                }
+                if (field.getName().equals(parameter)) {
+                    return field;
+                }
+                if (candidate == null && field.isAnnotationPresent(FileColumn.class)
+                        && List.of(FileColumnNames.candidates(field)).contains(lower)) {
+                    candidate = field;
+                }
+            }
+        }
+        if (candidate == null) {
+            throw new IllegalArgumentException("No field of " + type.getSimpleName() + " matches parameter :" + parameter);
+        }
+        return candidate;
+    }
+
+    private static ParameterBinding binding(Field field, MethodHandle getter) {
+        Class<?> type = field.getType();
+        if (type == int.class) {
+            MethodHandle typed = getter.asType(MethodType.methodType(int.class, Object.class));
+            return (ps, index, item) -> ps.setInt(index, (int) typed.invokeExact(item));
+        }
+        if (type == long.class) {
+            MethodHandle typed = getter.asType(MethodType.methodType(long.class, Object.class));
+            return (ps, index, item) -> ps.setLong(index, (long) typed.invokeExact(item));
+        }
+        if (type == double.class) {
+            MethodHandle typed = getter.asType(MethodType.methodType(double.class, Object.class));
+            return (ps, index, item) -> ps.setDouble(index, (double) typed.invokeExact(item));
+        }
+        if (type == boolean.class) {
+            MethodHandle typed = getter.asType(MethodType.methodType(boolean.class, Object.class));
+            return (ps, index, item) -> ps.setBoolean(index, (boolean) typed.invokeExact(item));
+        }
+
+        MethodHandle typed = getter.asType(MethodType.methodType(Object.class, Object.class));
+        if (type == String.class) {
+            return nullable(typed, Types.VARCHAR, (ps, index, value) -> ps.setString(index, (String) value));
+        }
+        if (type == Integer.class) {
+            return nullable(typed, Types.INTEGER, (ps, index, value) -> ps.setInt(index, (Integer) value));
+        }
+        if (type == Long.class) {
+            return nullable(typed, Types.BIGINT, (ps, index, value) -> ps.setLong(index, (Long) value));
+        }
+        if (type == Double.class) {
+            return nullable(typed, Types.DOUBLE, (ps, index, value) -> ps.setDouble(index, (Double) value));
+        }
+        if (type == Boolean.class) {
+            return nullable(typed, Types.BOOLEAN, (ps, index, value) -> ps.setBoolean(index, (Boolean) value));
+        }
+        if (type == BigDecimal.class) {
+            return nullable(typed, Types.DECIMAL, (ps, index, value) -> ps.setBigDecimal(index, (BigDecimal) value));
+        }
+        if (type == java.sql.Date.class) {
+            return nullable(typed, Types.DATE, (ps, index, value) -> ps.setDate(index, (java.sql.Date) value));
+        }
+        if (Date.class.isAssignableFrom(type)) {
+            return nullable(typed, Types.TIMESTAMP, (ps, index, value) -> ps.setTimestamp(index,
+                    value instanceof Timestamp timestamp ? timestamp : new Timestamp(((Date) value).getTime())));
+        }
+        if (type == LocalDate.class) {
+            return nullable(typed, Types.DATE, (ps, index, value) -> ps.setDate(index, java.sql.Date.valueOf((LocalDate) value)));
+        }
+        if (type == LocalDateTime.class) {
+            return nullable(typed, Types.TIMESTAMP, (ps, index, value) -> ps.setTimestamp(index, Timestamp.valueOf((LocalDateTime) value)));
+        }
+        // 其余类型交给 Spring 按值类型推断
+        return (ps, index, item) -> StatementCreatorUtils.setParameterValue(ps, index, SqlTypeValue.TYPE_UNKNOWN,
+                (Object) typed.invokeExact(item));
+    }
+
+    private static ParameterBinding nullable(MethodHandle getter, int sqlType, ValueSetter setter) {
+        return (ps, index, item) -> {
+            Object value = getter.invokeExact(item);
+            if (value == null) {
+                ps.setNull(index, sqlType);
+            } else {
+                setter.set(ps, index, value);
+            }
+        };
+    }
+
+    /**
+     * 单个位置参数的绑定
+     */
+    @FunctionalInterface
+    private interface ParameterBinding {
+        void bind(PreparedStatement ps, int index, Object item) throws Throwable;
+    }
+
+    @FunctionalInterface
+    private interface ValueSetter {
+        void set(PreparedStatement ps, int index, Object value) throws SQLException;
+    }
+}
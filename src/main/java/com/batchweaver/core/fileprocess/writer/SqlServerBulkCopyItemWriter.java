@@ -0,0 +1,247 @@
+package com.batchweaver.core.fileprocess.writer;
+
+import com.microsoft.sqlserver.jdbc.ISQLServerBulkData;
+import com.microsoft.sqlserver.jdbc.SQLServerBulkCopy;
+import com.microsoft.sqlserver.jdbc.SQLServerBulkCopyOptions;
+import com.microsoft.sqlserver.jdbc.SQLServerConnection;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * SQL Server 批量复制写入器
+ * <p>
+ * 用 {@link SQLServerBulkCopy} 把整个 chunk 以 TDS 批量复制协议写入目标表，避免逐行发送参数化 INSERT；
+ * 大批量导入通常比 JDBC batch 快数倍。
+ * <ul>
+ *   <li>列映射 - 实体上的 @FileColumn 字段按 {@link com.batchweaver.core.annotation.FileColumnNames} 规则匹配目标表的列（首次写入时读取一次表结构），
+ *       自增列默认跳过（由数据库生成），目标表中没有的字段忽略</li>
+ *   <li>事务 - 通过 {@link DataSourceUtils} 获取连接，参与 Step 的 DataSourceTransactionManager 事务，
+ *       chunk 回滚时批量复制的数据一起回滚（不使用批量复制的内部事务）</li>
+ *   <li>降级 - 连接不是 SQL Server（如测试中的嵌入式数据库）时，在同一连接上按相同的列映射执行 JDBC batch INSERT</li>
+ *   <li>异常 - SQLException 按数据源的错误码转换为 Spring DataAccessException，与 JdbcBatchItemWriter 一致</li>
+ * </ul>
+ *
+ * <pre>{@code
+ * SqlServerBulkCopyItemWriter<DemoUser> writer = new SqlServerBulkCopyItemWriter<>(dataSource2, "DEMO_USER", DemoUser.class);
+ * writer.setTableLock(true);
+ * }</pre>
+ *
+ * @param <T> 实体类型
+ */
+public class SqlServerBulkCopyItemWriter<T> implements ItemWriter<T> {
+
+    private final DataSource dataSource;
+    private final String tableName;
+    private final Class<T> itemType;
+    private final TableColumnMapping.FieldAccessor[] accessors;
+    private final WriterExceptionTranslator exceptionTranslator;
+
+    /**
+     * 每批发送的行数（0 表示整个 chunk 一批）
+     */
+    private int batchSize = 0;
+
+    /**
+     * 批量复制超时秒数（0 表示不限制）
+     */
+    private int bulkCopyTimeout = 0;
+
+    private boolean tableLock = false;
+    private boolean keepIdentity = false;
+
+    /**
+     * 目标表列映射（首次写入时解析）
+     */
+    private volatile TableColumnMapping mapping;
+
+    /**
+     * @param dataSource 数据源（与 Step 的 DataSourceTransactionManager 使用同一个）
+     * @param tableName  目标表名
+     * @param itemType   带 @FileColumn 注解的实体类型
+     */
+    public SqlServerBulkCopyItemWriter(DataSource dataSource, String tableName, Class<T> itemType) {
+        this.dataSource = Objects.requireNonNull(dataSource, "dataSource must not be null");
+        if (tableName == null || tableName.isBlank()) {
+            throw new IllegalArgumentException("tableName must not be empty");
+        }
+        this.tableName = tableName;
+        this.itemType = Objects.requireNonNull(itemType, "itemType must not be null");
+        this.accessors = TableColumnMapping.compile(itemType);
+        this.exceptionTranslator = new WriterExceptionTranslator(dataSource);
+    }
+
+    /**
+     * 每批发送的行数（默认 0，整个 chunk 一批）
+     */
+    public void setBatchSize(int batchSize) {
+        if (batchSize < 0) {
+            throw new IllegalArgumentException("batchSize must not be negative: " + batchSize);
+        }
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * 批量复制超时秒数（默认 0，不限制）
+     */
+    public void setBulkCopyTimeout(int bulkCopyTimeout) {
+        this.bulkCopyTimeout = bulkCopyTimeout;
+    }
+
+    /**
+     * 是否在批量复制期间持有表锁（默认 false；单写入者的大批量导入开启后更快）
+     */
+    public void setTableLock(boolean tableLock) {
+        this.tableLock = tableLock;
+    }
+
+    /**
+     * 是否写入自增列的值（默认 false，自增列由数据库生成）
+     */
+    public void setKeepIdentity(boolean keepIdentity) {
+        this.keepIdentity = keepIdentity;
+        this.mapping = null;
+    }
+
+    @Override
+    public void write(Chunk<? extends T> chunk) throws Exception {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        Connection connection = DataSourceUtils.getConnection(dataSource);
+        try {
+            TableColumnMapping columns = resolveMapping(connection);
+            if (connection.isWrapperFor(SQLServerConnection.class)) {
+                bulkCopy(connection.unwrap(SQLServerConnection.class), columns, chunk.getItems());
+            } else {
+                batchInsert(connection, columns, chunk.getItems());
+            }
+        } catch (SQLException e) {
+            throw exceptionTranslator.translate("Bulk copy into " + tableName, null, e);
+        } finally {
+            DataSourceUtils.releaseConnection(connection, dataSource);
+        }
+    }
+
+    // ============================================================================
+    // 写入
+    // ============================================================================
+
+    private void bulkCopy(SQLServerConnection connection, TableColumnMapping columns, List<? extends T> items) throws SQLException {
+        SQLServerBulkCopyOptions options = new SQLServerBulkCopyOptions();
+        options.setBatchSize(batchSize);
+        options.setBulkCopyTimeout(bulkCopyTimeout);
+        options.setTableLock(tableLock);
+        options.setKeepIdentity(keepIdentity);
+        // 参与外部（Spring 管理的）事务
+        options.setUseInternalTransaction(false);
+        try (SQLServerBulkCopy bulkCopy = new SQLServerBulkCopy(connection)) {
+            bulkCopy.setBulkCopyOptions(options);
+            bulkCopy.setDestinationTableName(tableName);
+            for (int i = 0; i < columns.size(); i++) {
+                bulkCopy.addColumnMapping(i + 1, columns.names[i]);
+            }
+            bulkCopy.writeToServer(new ChunkBulkData(columns, items));
+        }
+    }
+
+    private void batchInsert(Connection connection, TableColumnMapping columns, List<? extends T> items) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(columns.insertSql(1))) {
+            int pending = 0;
+            for (T item : items) {
+                columns.bind(statement, 0, item);
+                statement.addBatch();
+                if (batchSize > 0 && ++pending == batchSize) {
+                    statement.executeBatch();
+                    pending = 0;
+                }
+            }
+            if (batchSize == 0 || pending > 0) {
+                statement.executeBatch();
+            }
+        }
+    }
+
+    private TableColumnMapping resolveMapping(Connection connection) throws SQLException {
+        TableColumnMapping columns = mapping;
+        if (columns == null) {
+            columns = TableColumnMapping.resolve(connection, tableName, itemType, accessors, keepIdentity);
+            mapping = columns;
+        }
+        return columns;
+    }
+
+    /**
+     * chunk 的批量复制数据源（逐行读取实体字段，不复制整个 chunk）
+     */
+    private static final class ChunkBulkData implements ISQLServerBulkData {
+
+        private static final long serialVersionUID = 1L;
+
+        private final transient TableColumnMapping columns;
+        private final transient Iterator<?> items;
+        private final Set<Integer> ordinals = new LinkedHashSet<>();
+        private transient Object current;
+
+        ChunkBulkData(TableColumnMapping columns, List<?> items) {
+            this.columns = columns;
+            this.items = items.iterator();
+            for (int i = 1; i <= columns.size(); i++) {
+                ordinals.add(i);
+            }
+        }
+
+        @Override
+        public Set<Integer> getColumnOrdinals() {
+            return ordinals;
+        }
+
+        @Override
+        public String getColumnName(int column) {
+            return columns.names[column - 1];
+        }
+
+        @Override
+        public int getColumnType(int column) {
+            return columns.types[column - 1];
+        }
+
+        @Override
+        public int getPrecision(int column) {
+            return columns.precisions[column - 1];
+        }
+
+        @Override
+        public int getScale(int column) {
+            return columns.scales[column - 1];
+        }
+
+        @Override
+        public Object[] getRowData() throws SQLException {
+            Object[] row = new Object[columns.size()];
+            for (int i = 0; i < row.length; i++) {
+                row[i] = columns.value(current, i);
+            }
+            return row;
+        }
+
+        @Override
+        public boolean next() {
+            if (!items.hasNext()) {
+                return false;
+            }
+            current = items.next();
+            return true;
+        }
+    }
+}
@@ -0,0 +1,216 @@
+package com.batchweaver.core.fileprocess.writer;
+
+import com.batchweaver.core.annotation.FileColumn;
+import com.batchweaver.core.annotation.FileColumnNames;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.StatementCreatorUtils;
+import org.springframework.jdbc.support.JdbcUtils;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 实体字段到目标表列的映射（表级写入器共用）
+ * <p>
+ * @FileColumn 字段按 {@link FileColumnNames} 规则匹配目标表的列，列类型 / 精度取自表结构（不返回数据的查询读取一次）；
+ * 自增列默认跳过，目标表中没有的字段忽略。字段值按列类型转换为 JDBC 值（java.time 与 java.util.Date 转为 java.sql 类型）。
+ */
+@Slf4j
+final class TableColumnMapping {
+
+    final String tableName;
+    final String[] names;
+    final int[] types;
+    final int[] precisions;
+    final int[] scales;
+    private final FieldAccessor[] accessors;
+
+    /**
+     * 逗号分隔的列名列表
+     */
+    private final String columnList;
+
+    private TableColumnMapping(String tableName, List<FieldAccessor> accessors, List<String> names, List<int[]> metadata) {
+        this.tableName = tableName;
+        this.accessors = accessors.toArray(new FieldAccessor[0]);
+        this.names = names.toArray(new String[0]);
+        this.types = metadata.stream().mapToInt(column -> column[0]).toArray();
+        this.precisions = metadata.stream().mapToInt(column -> column[1]).toArray();
+        this.scales = metadata.stream().mapToInt(column -> column[2]).toArray();
+        this.columnList = String.join(", ", names);
+    }
+
+    int size() {
+        return names.length;
+    }
+
+    /**
+     * 第 column 列（从 0 开始）的 JDBC 值
+     */
+    Object value(Object item, int column) throws SQLException {
+        return toJdbcValue(accessors[column].get(item), types[column]);
+    }
+
+    /**
+     * 按列类型绑定一行的参数
+     *
+     * @param offset 该行第一个参数之前的参数个数
+     */
+    void bind(PreparedStatement statement, int offset, Object item) throws SQLException {
+        for (int i = 0; i < names.length; i++) {
+            StatementCreatorUtils.setParameterValue(statement, offset + i + 1, types[i], value(item, i));
+        }
+    }
+
+    /**
+     * 插入 rows 行的 INSERT 语句：{@code INSERT INTO t (a, b) VALUES (?, ?), (?, ?)}
+     */
+    String insertSql(int rows) {
+        StringBuilder row = new StringBuilder(names.length * 3 + 2).append('(');
+        for (int i = 0; i < names.length; i++) {
+            row.append(i == 0 ? "?" : ", ?");
+        }
+        row.append(')');
+        StringBuilder sql = new StringBuilder(columnList.length() + tableName.length() + 32 + rows * (row.length() + 2))
+                .append("INSERT INTO ").append(tableName).append(" (").append(columnList).append(") VALUES ");
+        for (int i = 0; i < rows; i++) {
+            if (i > 0) {
+                sql.append(", ");
+            }
+            sql.append(row);
+        }
+        return sql.toString();
+    }
+
+    // ============================================================================
+    // 解析
+    // ============================================================================
+
+    /**
+     * 编译实体类的 @FileColumn 字段读取句柄
+     */
+    static FieldAccessor[] compile(Class<?> type) {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(type, MethodHandles.lookup());
+            List<FieldAccessor> accessors = new ArrayList<>();
+            for (Field field : type.getDeclaredFields()) {
+                if (field.isAnnotationPresent(FileColumn.class) && !Modifier.isStatic(field.getModifiers())) {
+                    accessors.add(new FieldAccessor(field.getName(), FileColumnNames.candidates(field),
+                            lookup.unreflectGetter(field).asType(MethodType.methodType(Object.class, Object.class))));
+                }
+            }
+            if (accessors.isEmpty()) {
+                throw new IllegalArgumentException("No @FileColumn fields found in " + type.getName());
+            }
+            return accessors.toArray(new FieldAccessor[0]);
+        } catch (IllegalAccessException e) {
+            throw new IllegalArgumentException("Cannot access fields of " + type.getName(), e);
+        }
+    }
+
+    /**
+     * 读取目标表结构（不返回数据的查询），按候选列名匹配字段
+     *
+     * @throws IllegalStateException 没有任何字段匹配目标表的列
+     */
+    static TableColumnMapping resolve(Connection connection, String tableName, Class<?> itemType,
+                                      FieldAccessor[] accessors, boolean keepIdentity) throws SQLException {
+        Map<String, Integer> labels = new HashMap<>();
+        List<FieldAccessor> matched = new ArrayList<>();
+        List<String> names = new ArrayList<>();
+        List<int[]> metadata = new ArrayList<>();
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("SELECT * FROM " + tableName + " WHERE 1 = 0")) {
+            ResultSetMetaData metaData = rs.getMetaData();
+            for (int i = metaData.getColumnCount(); i >= 1; i--) {
+                labels.put(JdbcUtils.lookupColumnName(metaData, i).toLowerCase(Locale.ROOT), i);
+            }
+            Set<Integer> used = new HashSet<>();
+            for (FieldAccessor accessor : accessors) {
+                Integer index = null;
+                for (String candidate : accessor.candidates) {
+                    index = labels.get(candidate);
+                    if (index != null) {
+                        break;
+                    }
+                }
+                if (index == null) {
+                    log.warn("Field {} has no matching column in {}, skipped", accessor.fieldName, tableName);
+                    continue;
+                }
+                if ((metaData.isAutoIncrement(index) && !keepIdentity) || !used.add(index)) {
+                    continue;
+                }
+                matched.add(accessor);
+                names.add(JdbcUtils.lookupColumnName(metaData, index));
+                metadata.add(new int[]{metaData.getColumnType(index), metaData.getPrecision(index), metaData.getScale(index)});
+            }
+        }
+        if (matched.isEmpty()) {
+            throw new IllegalStateException("No @FileColumn field of " + itemType.getSimpleName()
+                    + " matches a column of table " + tableName);
+        }
+        return new TableColumnMapping(tableName, matched, names, metadata);
+    }
+
+    /**
+     * 把实体字段值转换为目标列类型可接受的 JDBC 值
+     */
+    private static Object toJdbcValue(Object value, int sqlType) {
+        if (value instanceof LocalDate localDate) {
+            return java.sql.Date.valueOf(localDate);
+        }
+        if (value instanceof LocalDateTime localDateTime) {
+            return Timestamp.valueOf(localDateTime);
+        }
+        if (value instanceof Date date && !(value instanceof java.sql.Date) && !(value instanceof Timestamp)) {
+            return sqlType == Types.DATE ? new java.sql.Date(date.getTime()) : new Timestamp(date.getTime());
+        }
+        return value;
+    }
+
+    /**
+     * 单个字段的读取句柄
+     */
+    static final class FieldAccessor {
+
+        final String fieldName;
+        final String[] candidates;
+        private final MethodHandle getter;
+
+        FieldAccessor(String fieldName, String[] candidates, MethodHandle getter) {
+            this.fieldName = fieldName;
+            this.candidates = candidates;
+            this.getter = getter;
+        }
+
+        Object get(Object item) throws SQLException {
+            try {
+                return (Object) getter.invokeExact(item);
+            } catch (Throwable e) {
+                throw new SQLException("Failed to read field " + fieldName, e);
+            }
+        }
+    }
+}
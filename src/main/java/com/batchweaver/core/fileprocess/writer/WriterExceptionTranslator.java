@@ -0,0 +1,34 @@
+package com.batchweaver.core.fileprocess.writer;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.support.SQLErrorCodeSQLExceptionTranslator;
+import org.springframework.jdbc.support.SQLExceptionTranslator;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+
+/**
+ * 写入器的 SQLException 转换
+ * <p>
+ * 按数据源的错误码把 SQLException 转换为 Spring DataAccessException（DuplicateKeyException、死锁异常等），
+ * 与 JdbcBatchItemWriter（JdbcTemplate）一致，Step 的 skip / retry 策略按异常类型匹配不受影响。
+ * 与 JdbcTemplate 相同，错误码在第一次转换时才读取（创建写入器时不获取连接）。
+ */
+final class WriterExceptionTranslator {
+
+    private final DataSource dataSource;
+    private volatile SQLExceptionTranslator translator;
+
+    WriterExceptionTranslator(DataSource dataSource) {
+        this.dataSource = dataSource;
+    }
+
+    DataAccessException translate(String task, String sql, SQLException e) {
+        SQLExceptionTranslator current = translator;
+        if (current == null) {
+            current = new SQLErrorCodeSQLExceptionTranslator(dataSource);
+            translator = current;
+        }
+        return current.translate(task, sql, e);
+    }
+}
@@ -1,21 +1,32 @@
 package com.batchweaver.core.reader;
 
 import com.batchweaver.core.annotation.FileColumn;
-import com.batchweaver.core.converter.NoOpConverter;
-import com.batchweaver.core.converter.TypeConverter;
+import com.batchweaver.core.annotation.GeneratedFileColumnClasses;
 import org.springframework.batch.item.file.mapping.FieldSetMapper;
 import org.springframework.batch.item.file.transform.FieldSet;
 import org.springframework.validation.BindException;
 
-import java.lang.reflect.Field;
-import java.math.BigDecimal;
-import java.text.SimpleDateFormat;
-import java.util.Date;
+import java.util.Optional;
 
 /**
  * 基于注解的字段映射器
  * <p>
  * 解析实体类上的 @FileColumn 注解，自动完成字段映射、数据清洗和类型转换
+ * <p>
+ * 字段按 {@link FileColumn#index()} 从 FieldSet 读取；定长文件配合
+ * {@link com.batchweaver.core.fileprocess.tokenizer.FixedWidthLineTokenizer} 使用同一套注解（start / length）
+ * <p>
+ * 目标类型可以是带无参构造器的可变类（逐字段写入），也可以是 record 或只有全参构造器的不可变类
+ * （@FileColumn 标注在 record 组件上，各列读取后一次性调用构造器，见 {@link ConstructorTarget}）
+ * <p>
+ * 注解只在首次使用某个实体类时解析一次，编译为 {@link MappingPlan}（MethodHandle 写入字段、缓存转换器和日期格式），
+ * 映射每一行时不再做反射查找
+ * <p>
+ * 可选的字节码生成模式（构造参数 generated = true）：由 {@link MapperClassGenerator} 为实体类生成专用的隐藏类映射器，
+ * 字段赋值为直线代码、数值列直接从字符解析；生成失败时自动退化为 {@link MappingPlan}
+ * <p>
+ * 编译期由 {@link com.batchweaver.core.annotation.FileColumnProcessor} 生成的映射器优先级最高：
+ * 存在时直接使用，不再解析注解
  *
  * @param <T> 目标实体类型
  */
@@ -23,100 +34,49 @@ public class AnnotationDrivenFieldSetMapper<T> implements FieldSetMapper<T> {
 
     private final Class<T> targetType;
 
-    public AnnotationDrivenFieldSetMapper(Class<T> targetType) {
-        this.targetType = targetType;
-    }
-
-    @Override
-    public T mapFieldSet(FieldSet fieldSet) throws BindException {
-        try {
-            T instance = targetType.getDeclaredConstructor().newInstance();
-
-            for (Field field : targetType.getDeclaredFields()) {
-                if (field.isAnnotationPresent(FileColumn.class)) {
-                    FileColumn annotation = field.getAnnotation(FileColumn.class);
-                    String value = fieldSet.readString(annotation.index());
-
-                    // 数据清洗
-                    value = cleanValue(value, annotation);
-
-                    // 默认值填充
-                    if ((value == null || value.isEmpty()) && !annotation.defaultValue().isEmpty()) {
-                        value = annotation.defaultValue();
-                    }
-
-                    // 类型转换
-                    Object convertedValue = convertValue(value, field.getType(), annotation);
-
-                    // 设置字段值
-                    field.setAccessible(true);
-                    field.set(instance, convertedValue);
-                }
-            }
-
-            return instance;
-        } catch (Exception e) {
-            throw new BindException(null, "Failed to map FieldSet to " + targetType.getSimpleName() + ": " + e.getMessage());
-        }
-    }
-
     /**
-     * 数据清洗
+     * 预编译映射计划（使用生成的映射器时为 null）
      */
-    private String cleanValue(String value, FileColumn annotation) {
-        if (value == null) {
-            return null;
-        }
-
-        if (annotation.trim()) {
-            value = value.trim();
-        }
+    private final MappingPlan<T> plan;
 
-        if (annotation.toUpperCase()) {
-            value = value.toUpperCase();
-        }
+    /**
+     * 映射计划的去重缓存（{@link FileColumn#dedupe()} 列，按映射器实例隔离）
+     */
+    private final StringDeduplicator deduplicator;
 
-        if (annotation.toLowerCase()) {
-            value = value.toLowerCase();
-        }
+    /**
+     * 生成的映射器（编译期生成类优先；都不可用时为 null）
+     */
+    private final FieldSetMapper<T> generatedMapper;
 
-        return value;
+    public AnnotationDrivenFieldSetMapper(Class<T> targetType) {
+        this(targetType, false);
     }
 
     /**
-     * 类型转换
+     * @param targetType 目标实体类型
+     * @param generated  是否生成字节码映射器（失败时退化为预编译映射计划）
      */
-    private Object convertValue(String value, Class<?> targetType, FileColumn annotation) throws Exception {
-        if (value == null || value.isEmpty()) {
-            return null;
-        }
-
-        // 使用自定义转换器
-        if (annotation.converter() != NoOpConverter.class) {
-            TypeConverter<?> converter = annotation.converter().getDeclaredConstructor().newInstance();
-            return converter.convert(value);
-        }
+    public AnnotationDrivenFieldSetMapper(Class<T> targetType, boolean generated) {
+        this.targetType = targetType;
+        this.generatedMapper = GeneratedFileColumnClasses.fieldSetMapper(targetType)
+                .or(() -> generated ? MapperClassGenerator.mapperFor(targetType) : Optional.empty())
+                .orElse(null);
+        this.plan = generatedMapper == null ? MappingPlan.of(targetType) : null;
+        this.deduplicator = plan != null && plan.isDeduplicating() ? new StringDeduplicator() : null;
+    }
 
-        // 内置转换器
-        if (targetType == String.class) {
-            return value;
-        } else if (targetType == Integer.class || targetType == int.class) {
-            return Integer.valueOf(value);
-        } else if (targetType == Long.class || targetType == long.class) {
-            return Long.valueOf(value);
-        } else if (targetType == Double.class || targetType == double.class) {
-            return Double.valueOf(value);
-        } else if (targetType == BigDecimal.class) {
-            return new BigDecimal(value);
-        } else if (targetType == Date.class) {
-            // 使用注解中的 format 属性，如果没有则使用默认格式
-            String dateFormat = annotation.format().isEmpty() ? "yyyyMMdd" : annotation.format();
-            SimpleDateFormat sdf = new SimpleDateFormat(dateFormat);
-            return sdf.parse(value);
-        } else if (targetType == Boolean.class || targetType == boolean.class) {
-            return Boolean.valueOf(value);
+    @Override
+    public T mapFieldSet(FieldSet fieldSet) throws BindException {
+        try {
+            if (generatedMapper != null) {
+                return generatedMapper.mapFieldSet(fieldSet);
+            }
+            return plan.map(fieldSet, deduplicator);
+        } catch (Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new BindException(null, "Failed to map FieldSet to " + targetType.getSimpleName() + ": " + e.getMessage());
         }
-
-        return value;
     }
 }
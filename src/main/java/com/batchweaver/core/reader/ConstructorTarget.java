@@ -0,0 +1,83 @@
+package com.batchweaver.core.reader;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.RecordComponent;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 构造器映射目标
+ * <p>
+ * 不可变目标类型通过构造器一次性传入所有字段值：
+ * <ul>
+ *   <li>record - 规范构造器，参数与记录组件一一对应</li>
+ *   <li>没有无参构造器的类 - 参数类型与实例字段（按声明顺序）完全一致的全参构造器（如 Lombok {@code @AllArgsConstructor}、{@code @Value}）</li>
+ * </ul>
+ * 存在无参构造器的普通类仍按字段逐个写入，{@link #of} 返回 null。
+ * 文件映射（MappingPlan、生成的 FieldSetMapper）与 JDBC 行映射（AnnotationRowMapper）共用同一套规则。
+ */
+public final class ConstructorTarget {
+
+    /**
+     * 构造器
+     */
+    public final Constructor<?> constructor;
+
+    /**
+     * 第 i 个构造参数对应的字段
+     */
+    public final Field[] fields;
+
+    private ConstructorTarget(Constructor<?> constructor, Field[] fields) {
+        this.constructor = constructor;
+        this.fields = fields;
+    }
+
+    /**
+     * 解析目标类型的构造方式
+     *
+     * @return 构造器映射目标；按字段写入（存在无参构造器）时返回 null
+     * @throws IllegalArgumentException 既没有无参构造器也没有全参构造器
+     */
+    public static ConstructorTarget of(Class<?> type) throws ReflectiveOperationException {
+        if (type.isRecord()) {
+            RecordComponent[] components = type.getRecordComponents();
+            Class<?>[] parameterTypes = new Class<?>[components.length];
+            Field[] fields = new Field[components.length];
+            for (int i = 0; i < components.length; i++) {
+                parameterTypes[i] = components[i].getType();
+                fields[i] = type.getDeclaredField(components[i].getName());
+            }
+            return new ConstructorTarget(type.getDeclaredConstructor(parameterTypes), fields);
+        }
+        for (Constructor<?> constructor : type.getDeclaredConstructors()) {
+            if (constructor.getParameterCount() == 0) {
+                return null;
+            }
+        }
+        List<Field> fields = new ArrayList<>();
+        for (Field field : type.getDeclaredFields()) {
+            if (!Modifier.isStatic(field.getModifiers()) && !field.isSynthetic()) {
+                fields.add(field);
+            }
+        }
+        Class<?>[] parameterTypes = fields.stream().map(Field::getType).toArray(Class<?>[]::new);
+        for (Constructor<?> constructor : type.getDeclaredConstructors()) {
+            if (Arrays.equals(constructor.getParameterTypes(), parameterTypes)) {
+                return new ConstructorTarget(constructor, fields.toArray(new Field[0]));
+            }
+        }
+        throw new IllegalArgumentException("No no-arg or all-args constructor found in " + type.getName());
+    }
+
+    /**
+     * 基本类型参数的默认值（未标注 @FileColumn 的参数使用）
+     */
+    public static Object defaultValue(Class<?> type) {
+        return type.isPrimitive() ? Array.get(Array.newInstance(type, 1), 0) : null;
+    }
+}
@@ -0,0 +1,294 @@
+package com.batchweaver.core.reader;
+
+import com.batchweaver.core.annotation.FileColumn;
+import com.batchweaver.core.converter.IntConverter;
+import com.batchweaver.core.converter.LongConverter;
+import com.batchweaver.core.converter.NoOpConverter;
+import com.batchweaver.core.converter.RangeConverter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.asm.ClassWriter;
+import org.springframework.asm.MethodVisitor;
+import org.springframework.asm.Opcodes;
+import org.springframework.asm.Type;
+import org.springframework.batch.item.file.mapping.FieldSetMapper;
+import org.springframework.batch.item.file.transform.FieldSet;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.math.BigDecimal;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 映射器字节码生成器
+ * <p>
+ * 为每个 {@link FileColumn} 实体类生成一个具体的 {@link FieldSetMapper} 隐藏类
+ * （{@link MethodHandles.Lookup#defineHiddenClass}，作为实体类的 nestmate 直接写入私有字段）：
+ * mapFieldSet 是一段无分支的直线代码，依次调用 {@link MapperSupport} 的静态方法读取每一列并 putfield，
+ * JIT 可以把整个映射路径内联。
+ * <p>
+ * record 和只有全参构造器的类（见 {@link ConstructorTarget}）按参数顺序读取各列后直接调用构造器。
+ * <p>
+ * 遇到不支持的字段类型、按字段写入时的 final 字段或类加载器限制时生成失败，返回 empty，由调用方退化为 {@link MappingPlan}。
+ * 生成的类按实体类缓存；{@link FileColumn#dedupe()} 列的 {@link StringDeduplicator} 是实例状态，
+ * 每次 {@link #mapperFor} 都创建新的映射器实例和新的去重缓存。
+ */
+@Slf4j
+final class MapperClassGenerator {
+
+    private static final String SUPPORT = Type.getInternalName(MapperSupport.class);
+    private static final String FIELD_SET_DESC = Type.getDescriptor(FieldSet.class);
+    private static final String READ_PREFIX = "(" + FIELD_SET_DESC + "IILjava/lang/String;";
+    private static final String DEFAULT_DATE_FORMAT = "yyyyMMdd";
+
+    /**
+     * 内置类型对应的 {@link MapperSupport} 方法名与返回类型
+     */
+    private static final Map<Class<?>, String> READERS = Map.of(
+            String.class, "readString",
+            Integer.class, "readInteger",
+            Long.class, "readLong",
+            Double.class, "readDouble",
+            BigDecimal.class, "readBigDecimal",
+            Boolean.class, "readBoolean",
+            Date.class, "readDate"
+    );
+
+    private static final Map<Class<?>, Class<?>> WRAPPERS = Map.of(
+            int.class, Integer.class,
+            long.class, Long.class,
+            double.class, Double.class,
+            boolean.class, Boolean.class
+    );
+
+    private static final ClassValue<Optional<Template>> CACHE = new ClassValue<>() {
+        @Override
+        protected Optional<Template> computeValue(Class<?> type) {
+            try {
+                return Optional.of(generate(type));
+            } catch (Throwable e) {
+                log.warn("Falling back to reflective mapping plan for {}: {}", type.getName(), e.toString());
+                return Optional.empty();
+            }
+        }
+    };
+
+    private MapperClassGenerator() {
+    }
+
+    /**
+     * 获取实体类的生成映射器
+     *
+     * @return 生成的映射器，生成失败时返回 empty
+     */
+    @SuppressWarnings("unchecked")
+    static <T> Optional<FieldSetMapper<T>> mapperFor(Class<T> type) {
+        return CACHE.get(type).map(template -> (FieldSetMapper<T>) template.newInstance());
+    }
+
+    /**
+     * 生成类的构造器与 support 数组模板
+     */
+    private static final class Template {
+
+        private final MethodHandle constructor;
+        private final Object[] support;
+
+        Template(MethodHandle constructor, Object[] support) {
+            this.constructor = constructor;
+            this.support = support;
+        }
+
+        FieldSetMapper<?> newInstance() {
+            Object[] instanceSupport = support.clone();
+            for (int i = 0; i < instanceSupport.length; i++) {
+                if (instanceSupport[i] instanceof StringDeduplicator) {
+                    instanceSupport[i] = new StringDeduplicator();
+                }
+            }
+            try {
+                return (FieldSetMapper<?>) constructor.invoke(instanceSupport);
+            } catch (Throwable e) {
+                throw new IllegalStateException("Failed to instantiate generated mapper", e);
+            }
+        }
+    }
+
+    // ============================================================================
+    // 生成
+    // ============================================================================
+
+    private static Template generate(Class<?> type) throws Throwable {
+        String owner = Type.getInternalName(type);
+        String className = owner + "$$FieldSetMapper";
+        List<Object> support = new ArrayList<>();
+
+        ClassWriter cw = new ClassWriter(ClassWriter.COMPUTE_MAXS);
+        cw.visit(Opcodes.V17, Opcodes.ACC_FINAL | Opcodes.ACC_SUPER, className, null, "java/lang/Object",
+                new String[]{Type.getInternalName(FieldSetMapper.class)});
+        cw.visitField(Opcodes.ACC_PRIVATE | Opcodes.ACC_FINAL, "support", "[Ljava/lang/Object;", null, null).visitEnd();
+
+        // 构造器：保存转换器、日期格式等运行时对象
+        MethodVisitor init = cw.visitMethod(Opcodes.ACC_PUBLIC, "<init>", "([Ljava/lang/Object;)V", null, null);
+        init.visitCode();
+        init.visitVarInsn(Opcodes.ALOAD, 0);
+        init.visitMethodInsn(Opcodes.INVOKESPECIAL, "java/lang/Object", "<init>", "()V", false);
+        init.visitVarInsn(Opcodes.ALOAD, 0);
+        init.visitVarInsn(Opcodes.ALOAD, 1);
+        init.visitFieldInsn(Opcodes.PUTFIELD, className, "support", "[Ljava/lang/Object;");
+        init.visitInsn(Opcodes.RETURN);
+        init.visitMaxs(0, 0);
+        init.visitEnd();
+
+        MethodVisitor map = cw.visitMethod(Opcodes.ACC_PUBLIC, "mapFieldSet",
+                "(" + FIELD_SET_DESC + ")Ljava/lang/Object;", null, null);
+        map.visitCode();
+        ConstructorTarget target = ConstructorTarget.of(type);
+        if (target == null) {
+            // mapFieldSet：new 实体，逐列读取并写入字段
+            map.visitTypeInsn(Opcodes.NEW, owner);
+            map.visitInsn(Opcodes.DUP);
+            map.visitMethodInsn(Opcodes.INVOKESPECIAL, owner, "<init>", "()V", false);
+            map.visitVarInsn(Opcodes.ASTORE, 2);
+            for (Field field : type.getDeclaredFields()) {
+                FileColumn annotation = field.getAnnotation(FileColumn.class);
+                if (annotation != null) {
+                    if (Modifier.isFinal(field.getModifiers()) || Modifier.isStatic(field.getModifiers())) {
+                        throw new IllegalArgumentException("Unsupported field modifiers: " + field.getName());
+                    }
+                    map.visitVarInsn(Opcodes.ALOAD, 2);
+                    emitRead(map, className, field, annotation, support);
+                    map.visitFieldInsn(Opcodes.PUTFIELD, owner, field.getName(), Type.getDescriptor(field.getType()));
+                }
+            }
+            map.visitVarInsn(Opcodes.ALOAD, 2);
+        } else {
+            // 构造器模式（record / 全参构造器）：按参数顺序读取各列后直接调用构造器
+            map.visitTypeInsn(Opcodes.NEW, owner);
+            map.visitInsn(Opcodes.DUP);
+            for (Field field : target.fields) {
+                FileColumn annotation = field.getAnnotation(FileColumn.class);
+                if (annotation != null) {
+                    emitRead(map, className, field, annotation, support);
+                } else {
+                    emitDefault(map, field.getType());
+                }
+            }
+            map.visitMethodInsn(Opcodes.INVOKESPECIAL, owner, "<init>",
+                    Type.getConstructorDescriptor(target.constructor), false);
+        }
+        map.visitInsn(Opcodes.ARETURN);
+        map.visitMaxs(0, 0);
+        map.visitEnd();
+        cw.visitEnd();
+
+        MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(type, MethodHandles.lookup())
+                .defineHiddenClass(cw.toByteArray(), true, MethodHandles.Lookup.ClassOption.NESTMATE);
+        Template template = new Template(
+                lookup.findConstructor(lookup.lookupClass(), MethodType.methodType(void.class, Object[].class)),
+                support.toArray());
+        // 先实例化一次，构造失败时在生成阶段退化
+        template.newInstance();
+        return template;
+    }
+
+    /**
+     * 生成一列的读取指令，执行后栈顶为字段类型的值（基本类型已拆箱）
+     */
+    private static void emitRead(MethodVisitor mv, String className, Field field,
+                                 FileColumn annotation, List<Object> support) throws ReflectiveOperationException {
+        Class<?> fieldType = field.getType();
+        Class<?> boxedType = WRAPPERS.getOrDefault(fieldType, fieldType);
+        boolean custom = annotation.converter() != NoOpConverter.class;
+        String reader = custom ? "convert" : READERS.get(boxedType);
+        if (reader == null) {
+            throw new IllegalArgumentException("Unsupported field type: " + fieldType.getName() + " " + field.getName());
+        }
+
+        mv.visitVarInsn(Opcodes.ALOAD, 1);
+        mv.visitLdcInsn(annotation.index());
+        mv.visitLdcInsn(MapperSupport.flagsOf(annotation));
+        if (annotation.defaultValue().isEmpty()) {
+            mv.visitInsn(Opcodes.ACONST_NULL);
+        } else {
+            mv.visitLdcInsn(annotation.defaultValue());
+        }
+
+        String returnDesc = custom ? "Ljava/lang/Object;" : Type.getDescriptor(boxedType);
+        boolean unbox = fieldType.isPrimitive();
+        if (custom) {
+            RangeConverter<?> converter = RangeConverter.adapt(annotation.converter().getDeclaredConstructor().newInstance());
+            if (fieldType == int.class && converter instanceof IntConverter) {
+                // 基本类型特化：直接得到 int，不装箱
+                emitSupport(mv, className, support, converter, IntConverter.class);
+                mv.visitMethodInsn(Opcodes.INVOKESTATIC, SUPPORT, "convertInt",
+                        READ_PREFIX + Type.getDescriptor(IntConverter.class) + ")I", false);
+                unbox = false;
+            } else if (fieldType == long.class && converter instanceof LongConverter) {
+                emitSupport(mv, className, support, converter, LongConverter.class);
+                mv.visitMethodInsn(Opcodes.INVOKESTATIC, SUPPORT, "convertLong",
+                        READ_PREFIX + Type.getDescriptor(LongConverter.class) + ")J", false);
+                unbox = false;
+            } else {
+                emitSupport(mv, className, support, converter, RangeConverter.class);
+                mv.visitMethodInsn(Opcodes.INVOKESTATIC, SUPPORT, reader,
+                        READ_PREFIX + Type.getDescriptor(RangeConverter.class) + ")" + returnDesc, false);
+                mv.visitTypeInsn(Opcodes.CHECKCAST, Type.getInternalName(boxedType));
+            }
+        } else if (boxedType == String.class && annotation.dedupe()) {
+            // 去重缓存：模板中占位，实例化映射器时替换为新的缓存
+            emitSupport(mv, className, support, new StringDeduplicator(), StringDeduplicator.class);
+            mv.visitMethodInsn(Opcodes.INVOKESTATIC, SUPPORT, reader,
+                    READ_PREFIX + Type.getDescriptor(StringDeduplicator.class) + ")" + returnDesc, false);
+        } else if (boxedType == Date.class) {
+            String pattern = annotation.format().isEmpty() ? DEFAULT_DATE_FORMAT : annotation.format();
+            emitSupport(mv, className, support, ThreadLocal.withInitial(() -> new SimpleDateFormat(pattern)), ThreadLocal.class);
+            mv.visitMethodInsn(Opcodes.INVOKESTATIC, SUPPORT, reader,
+                    READ_PREFIX + Type.getDescriptor(ThreadLocal.class) + ")" + returnDesc, false);
+        } else {
+            mv.visitMethodInsn(Opcodes.INVOKESTATIC, SUPPORT, reader, READ_PREFIX + ")" + returnDesc, false);
+        }
+
+        // 基本类型字段：拆箱（空值时抛出 NullPointerException，与反射写入 null 的失败行为一致）
+        if (unbox) {
+            mv.visitMethodInsn(Opcodes.INVOKEVIRTUAL, Type.getInternalName(boxedType), fieldType.getName() + "Value",
+                    "()" + Type.getDescriptor(fieldType), false);
+        }
+    }
+
+    /**
+     * 未标注 @FileColumn 的构造参数：基本类型为 0 / false，引用类型为 null
+     */
+    private static void emitDefault(MethodVisitor mv, Class<?> type) {
+        if (type == long.class) {
+            mv.visitInsn(Opcodes.LCONST_0);
+        } else if (type == double.class) {
+            mv.visitInsn(Opcodes.DCONST_0);
+        } else if (type == float.class) {
+            mv.visitInsn(Opcodes.FCONST_0);
+        } else if (type.isPrimitive()) {
+            mv.visitInsn(Opcodes.ICONST_0);
+        } else {
+            mv.visitInsn(Opcodes.ACONST_NULL);
+        }
+    }
+
+    /**
+     * 把运行时对象放入 support 数组，并生成 this.support[i] 的读取指令
+     */
+    private static void emitSupport(MethodVisitor mv, String className, List<Object> support, Object value, Class<?> castType) {
+        support.add(value);
+        mv.visitVarInsn(Opcodes.ALOAD, 0);
+        mv.visitFieldInsn(Opcodes.GETFIELD, className, "support", "[Ljava/lang/Object;");
+        mv.visitLdcInsn(support.size() - 1);
+        mv.visitInsn(Opcodes.AALOAD);
+        mv.visitTypeInsn(Opcodes.CHECKCAST, Type.getInternalName(castType));
+    }
+}
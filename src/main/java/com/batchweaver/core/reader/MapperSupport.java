@@ -0,0 +1,176 @@
+package com.batchweaver.core.reader;
+
+import com.batchweaver.core.annotation.FileColumn;
+import com.batchweaver.core.converter.CharSequenceParsers;
+import com.batchweaver.core.converter.IntConverter;
+import com.batchweaver.core.converter.LongConverter;
+import com.batchweaver.core.converter.RangeConverter;
+import com.batchweaver.core.fileprocess.tokenizer.FlyweightFieldSet;
+import org.springframework.batch.item.file.transform.FieldSet;
+
+import java.math.BigDecimal;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+
+/**
+ * 生成映射器的运行时支持方法
+ * <p>
+ * 由 {@link MapperClassGenerator} 生成的隐藏类直接调用（因此必须是 public），业务代码不应使用。
+ * 每个方法完成一列的读取、清洗、默认值填充和类型转换，语义与 {@link MappingPlan} 一致：清洗后为空的值返回 null。
+ * Integer / Long / BigDecimal 列在任何 FieldSet 上都由 {@link CharSequenceParsers} 按严格语法解析
+ * （在 {@link FlyweightFieldSet} 上直接读取行内区间，不创建中间字符串），与 {@link MappingPlan} 使用同一个解析器。
+ * <p>
+ * 自定义转换器统一以 {@link RangeConverter} 调用：在 {@link FlyweightFieldSet} 上（仅 trim 清洗时）直接传入行内区间；
+ * {@link IntConverter} / {@link LongConverter} 写入基本类型字段时返回 int / long，不装箱。
+ */
+public final class MapperSupport {
+
+    public static final int TRIM = 1;
+    public static final int TO_UPPER_CASE = 1 << 1;
+    public static final int TO_LOWER_CASE = 1 << 2;
+
+    private MapperSupport() {
+    }
+
+    public static String readString(FieldSet fieldSet, int index, int flags, String defaultValue) {
+        String value = fieldSet.readString(index);
+        if (value != null) {
+            if ((flags & TRIM) != 0) {
+                value = value.trim();
+            }
+            if ((flags & TO_UPPER_CASE) != 0) {
+                value = value.toUpperCase();
+            }
+            if ((flags & TO_LOWER_CASE) != 0) {
+                value = value.toLowerCase();
+            }
+        }
+        if (value == null || value.isEmpty()) {
+            return defaultValue;
+        }
+        return value;
+    }
+
+    /**
+     * 字符串列去重：{@link FlyweightFieldSet} 上（仅 trim 清洗时）直接按行内区间查找，命中时不创建 String
+     */
+    public static String readString(FieldSet fieldSet, int index, int flags, String defaultValue,
+                                    StringDeduplicator deduplicator) {
+        if (flags == TRIM && fieldSet instanceof FlyweightFieldSet flyweight) {
+            int start = flyweight.trimmedStart(index);
+            int end = flyweight.trimmedEnd(index, start);
+            if (start < end) {
+                return deduplicator.dedupe(flyweight.line(), start, end);
+            }
+        }
+        String value = readString(fieldSet, index, flags, defaultValue);
+        return value == defaultValue ? value : deduplicator.dedupe(value);
+    }
+
+    public static Integer readInteger(FieldSet fieldSet, int index, int flags, String defaultValue) {
+        if (defaultValue == null && fieldSet instanceof FlyweightFieldSet flyweight) {
+            return flyweight.isBlank(index) ? null : flyweight.readInt(index);
+        }
+        String value = readString(fieldSet, index, flags, defaultValue);
+        return value == null ? null : CharSequenceParsers.parseInt(value, 0, value.length());
+    }
+
+    public static Long readLong(FieldSet fieldSet, int index, int flags, String defaultValue) {
+        if (defaultValue == null && fieldSet instanceof FlyweightFieldSet flyweight) {
+            return flyweight.isBlank(index) ? null : flyweight.readLong(index);
+        }
+        String value = readString(fieldSet, index, flags, defaultValue);
+        return value == null ? null : CharSequenceParsers.parseLong(value, 0, value.length());
+    }
+
+    public static BigDecimal readBigDecimal(FieldSet fieldSet, int index, int flags, String defaultValue) {
+        if (defaultValue == null && fieldSet instanceof FlyweightFieldSet flyweight) {
+            return flyweight.readBigDecimal(index, null);
+        }
+        String value = readString(fieldSet, index, flags, defaultValue);
+        return value == null ? null : CharSequenceParsers.parseDecimal(value, 0, value.length());
+    }
+
+    public static Double readDouble(FieldSet fieldSet, int index, int flags, String defaultValue) {
+        String value = readString(fieldSet, index, flags, defaultValue);
+        return value == null ? null : Double.valueOf(value);
+    }
+
+    public static Boolean readBoolean(FieldSet fieldSet, int index, int flags, String defaultValue) {
+        String value = readString(fieldSet, index, flags, defaultValue);
+        return value == null ? null : Boolean.valueOf(value);
+    }
+
+    public static Date readDate(FieldSet fieldSet, int index, int flags, String defaultValue,
+                                ThreadLocal<SimpleDateFormat> format) throws Exception {
+        String value = readString(fieldSet, index, flags, defaultValue);
+        return value == null ? null : format.get().parse(value);
+    }
+
+    public static Object convert(FieldSet fieldSet, int index, int flags, String defaultValue,
+                                 RangeConverter<?> converter) throws Exception {
+        if (flags == TRIM && fieldSet instanceof FlyweightFieldSet flyweight) {
+            int start = flyweight.trimmedStart(index);
+            int end = flyweight.trimmedEnd(index, start);
+            if (start < end) {
+                return converter.convert(flyweight.line(), start, end);
+            }
+        }
+        String value = readString(fieldSet, index, flags, defaultValue);
+        return value == null ? null : converter.convert(value, 0, value.length());
+    }
+
+    /**
+     * 基本类型 int 字段：值为空且没有默认值时抛出 IllegalArgumentException
+     */
+    public static int convertInt(FieldSet fieldSet, int index, int flags, String defaultValue, IntConverter converter) {
+        if (flags == TRIM && fieldSet instanceof FlyweightFieldSet flyweight) {
+            int start = flyweight.trimmedStart(index);
+            int end = flyweight.trimmedEnd(index, start);
+            if (start < end) {
+                return converter.convertInt(flyweight.line(), start, end);
+            }
+        }
+        String value = requireValue(readString(fieldSet, index, flags, defaultValue), index);
+        return converter.convertInt(value, 0, value.length());
+    }
+
+    /**
+     * 基本类型 long 字段：值为空且没有默认值时抛出 IllegalArgumentException
+     */
+    public static long convertLong(FieldSet fieldSet, int index, int flags, String defaultValue, LongConverter converter) {
+        if (flags == TRIM && fieldSet instanceof FlyweightFieldSet flyweight) {
+            int start = flyweight.trimmedStart(index);
+            int end = flyweight.trimmedEnd(index, start);
+            if (start < end) {
+                return converter.convertLong(flyweight.line(), start, end);
+            }
+        }
+        String value = requireValue(readString(fieldSet, index, flags, defaultValue), index);
+        return converter.convertLong(value, 0, value.length());
+    }
+
+    /**
+     * 注解中的清洗选项转换为标志位
+     */
+    static int flagsOf(FileColumn annotation) {
+        int flags = 0;
+        if (annotation.trim()) {
+            flags |= TRIM;
+        }
+        if (annotation.toUpperCase()) {
+            flags |= TO_UPPER_CASE;
+        }
+        if (annotation.toLowerCase()) {
+            flags |= TO_LOWER_CASE;
+        }
+        return flags;
+    }
+
+    private static String requireValue(String value, int index) {
+        if (value == null) {
+            throw new IllegalArgumentException("Blank value for primitive column at index " + index);
+        }
+        return value;
+    }
+}
@@ -0,0 +1,459 @@
+package com.batchweaver.core.reader;
+
+import com.batchweaver.core.annotation.FileColumn;
+import com.batchweaver.core.converter.CharSequenceParsers;
+import com.batchweaver.core.converter.IntConverter;
+import com.batchweaver.core.converter.LongConverter;
+import com.batchweaver.core.converter.NoOpConverter;
+import com.batchweaver.core.converter.RangeConverter;
+import com.batchweaver.core.converter.TypeConverter;
+import com.batchweaver.core.fileprocess.tokenizer.FlyweightFieldSet;
+import org.springframework.batch.item.file.transform.FieldSet;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.math.BigDecimal;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * 预编译的字段映射计划
+ * <p>
+ * 每个实体类只解析一次 {@link FileColumn} 注解，生成：
+ * <ul>
+ *   <li>构造器 - LambdaMetafactory 生成的 Supplier（无法生成时退化为 MethodHandle）</li>
+ *   <li>字段写入 - 通过 privateLookupIn 得到的 setter MethodHandle</li>
+ *   <li>不可变目标 - record 或只有全参构造器的类（见 {@link ConstructorTarget}）：先读取所有列，
+ *       再通过展开参数的构造器 MethodHandle 一次性创建实例</li>
+ *   <li>类型转换 - 按字段类型预先选定的解析函数，自定义 {@link TypeConverter} 只实例化一次并适配为 {@link RangeConverter}；
+ *       int / long 字段配合 {@link IntConverter} / {@link LongConverter} 时以基本类型写入，不装箱</li>
+ *   <li>日期格式 - 按线程缓存的 SimpleDateFormat（保持原有的解析语义）</li>
+ *   <li>字符串去重 - {@link FileColumn#dedupe()} 列经由调用方传入的 {@link StringDeduplicator}（计划本身无状态）</li>
+ * </ul>
+ * 映射每一行时不再有反射查找、注解读取和对象创建（除目标实例和字段值本身）。
+ * 计划按类缓存，线程安全。
+ *
+ * @param <T> 目标实体类型
+ */
+final class MappingPlan<T> {
+
+    private static final String DEFAULT_DATE_FORMAT = "yyyyMMdd";
+
+    private static final ClassValue<MappingPlan<?>> CACHE = new ClassValue<>() {
+        @Override
+        protected MappingPlan<?> computeValue(Class<?> type) {
+            return compile(type);
+        }
+    };
+
+    private final Supplier<T> constructor;
+    private final ColumnBinding[] columns;
+
+    /**
+     * 构造器模式：(Object[])Object 的构造器句柄（按字段写入时为 null）
+     */
+    private final MethodHandle factory;
+
+    /**
+     * 构造器模式：每列对应的参数位置
+     */
+    private final int[] positions;
+
+    /**
+     * 构造器模式：参数默认值模板（未标注 @FileColumn 的参数）
+     */
+    private final Object[] defaultArguments;
+
+    private MappingPlan(Supplier<T> constructor, ColumnBinding[] columns) {
+        this.constructor = constructor;
+        this.columns = columns;
+        this.factory = null;
+        this.positions = null;
+        this.defaultArguments = null;
+    }
+
+    private MappingPlan(MethodHandle factory, ColumnBinding[] columns, int[] positions, Object[] defaultArguments) {
+        this.constructor = null;
+        this.columns = columns;
+        this.factory = factory;
+        this.positions = positions;
+        this.defaultArguments = defaultArguments;
+    }
+
+    /**
+     * 获取实体类的映射计划（按类缓存）
+     */
+    @SuppressWarnings("unchecked")
+    static <T> MappingPlan<T> of(Class<T> type) {
+        return (MappingPlan<T>) CACHE.get(type);
+    }
+
+    /**
+     * 是否包含 dedupe 列（调用方需要为 {@link #map} 提供去重缓存）
+     */
+    boolean isDeduplicating() {
+        for (ColumnBinding column : columns) {
+            if (column instanceof DedupedStringColumn) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 按计划把 FieldSet 映射为实体
+     *
+     * @param deduplicator 去重缓存（{@link #isDeduplicating()} 为 false 时可为 null）
+     */
+    @SuppressWarnings("unchecked")
+    T map(FieldSet fieldSet, StringDeduplicator deduplicator) throws Throwable {
+        if (factory != null) {
+            Object[] arguments = defaultArguments.clone();
+            for (int i = 0; i < columns.length; i++) {
+                arguments[positions[i]] = columns[i].read(fieldSet, deduplicator);
+            }
+            return (T) factory.invokeExact(arguments);
+        }
+        T instance = constructor.get();
+        for (ColumnBinding column : columns) {
+            column.bind(instance, fieldSet, deduplicator);
+        }
+        return instance;
+    }
+
+    // ============================================================================
+    // 编译
+    // ============================================================================
+
+    private static <T> MappingPlan<T> compile(Class<T> type) {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(type, MethodHandles.lookup());
+            ConstructorTarget target = ConstructorTarget.of(type);
+            if (target != null) {
+                return compileConstructor(type, target, lookup);
+            }
+            List<ColumnBinding> columns = new ArrayList<>();
+            for (Field field : type.getDeclaredFields()) {
+                FileColumn annotation = field.getAnnotation(FileColumn.class);
+                if (annotation == null) {
+                    continue;
+                }
+                columns.add(bindingFor(field, annotation, lookup.unreflectSetter(field)));
+            }
+            return new MappingPlan<>(constructorFor(type, lookup), columns.toArray(new ColumnBinding[0]));
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalArgumentException("Failed to compile mapping plan for " + type.getName() + ": " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 构造器模式：列值读取后作为构造参数，不需要 setter
+     */
+    private static <T> MappingPlan<T> compileConstructor(Class<T> type, ConstructorTarget target, MethodHandles.Lookup lookup)
+            throws ReflectiveOperationException {
+        List<ColumnBinding> columns = new ArrayList<>();
+        List<Integer> positions = new ArrayList<>();
+        Object[] defaultArguments = new Object[target.fields.length];
+        for (int i = 0; i < target.fields.length; i++) {
+            Field field = target.fields[i];
+            defaultArguments[i] = ConstructorTarget.defaultValue(field.getType());
+            FileColumn annotation = field.getAnnotation(FileColumn.class);
+            if (annotation != null) {
+                columns.add(bindingFor(field, annotation, null));
+                positions.add(i);
+            }
+        }
+        MethodHandle factory = lookup.unreflectConstructor(target.constructor)
+                .asSpreader(Object[].class, target.fields.length)
+                .asType(MethodType.methodType(Object.class, Object[].class));
+        return new MappingPlan<>(factory, columns.toArray(new ColumnBinding[0]),
+                positions.stream().mapToInt(Integer::intValue).toArray(), defaultArguments);
+    }
+
+    /**
+     * 生成无参构造器：优先使用 LambdaMetafactory（与直接 new 性能相当），失败时退化为 MethodHandle
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> Supplier<T> constructorFor(Class<T> type, MethodHandles.Lookup lookup) throws ReflectiveOperationException {
+        MethodHandle handle = lookup.findConstructor(type, MethodType.methodType(void.class));
+        if (Modifier.isPublic(type.getModifiers())) {
+            try {
+                CallSite site = LambdaMetafactory.metafactory(lookup, "get",
+                        MethodType.methodType(Supplier.class), MethodType.methodType(Object.class),
+                        handle, MethodType.methodType(type));
+                return (Supplier<T>) site.getTarget().invokeExact();
+            } catch (Throwable e) {
+                // 类加载器或模块限制导致无法生成 lambda 时退化为 MethodHandle
+            }
+        }
+        MethodHandle generic = handle.asType(MethodType.methodType(Object.class));
+        return () -> {
+            try {
+                return (T) generic.invokeExact();
+            } catch (Throwable e) {
+                throw new IllegalStateException("Failed to instantiate " + type.getName(), e);
+            }
+        };
+    }
+
+    /**
+     * 按字段类型和转换器选定列绑定
+     *
+     * @param setter 字段 setter（构造器模式为 null）
+     */
+    private static ColumnBinding bindingFor(Field field, FileColumn annotation, MethodHandle setter) throws ReflectiveOperationException {
+        Class<?> fieldType = field.getType();
+        if (annotation.converter() == NoOpConverter.class && annotation.dedupe() && fieldType == String.class) {
+            return new DedupedStringColumn(annotation, typedSetter(setter, Object.class));
+        }
+        if (annotation.converter() == NoOpConverter.class) {
+            return new ParsedColumn(annotation, parserFor(fieldType, annotation), typedSetter(setter, Object.class));
+        }
+        // 自定义转换器：只实例化一次
+        RangeConverter<?> converter = RangeConverter.adapt(annotation.converter().getDeclaredConstructor().newInstance());
+        if (fieldType == int.class && converter instanceof IntConverter intConverter) {
+            return new IntColumn(annotation, intConverter, typedSetter(setter, int.class));
+        }
+        if (fieldType == long.class && converter instanceof LongConverter longConverter) {
+            return new LongColumn(annotation, longConverter, typedSetter(setter, long.class));
+        }
+        return new ConvertedColumn(annotation, converter, typedSetter(setter, Object.class));
+    }
+
+    private static MethodHandle typedSetter(MethodHandle setter, Class<?> valueType) {
+        return setter == null ? null : setter.asType(MethodType.methodType(void.class, Object.class, valueType));
+    }
+
+    /**
+     * 按字段类型选定内置解析函数（整数和定点数与 {@link MapperSupport} 一样使用 {@link CharSequenceParsers}）
+     */
+    private static ValueParser parserFor(Class<?> fieldType, FileColumn annotation) {
+        if (fieldType == Integer.class || fieldType == int.class) {
+            return value -> CharSequenceParsers.parseInt(value, 0, value.length());
+        } else if (fieldType == Long.class || fieldType == long.class) {
+            return value -> CharSequenceParsers.parseLong(value, 0, value.length());
+        } else if (fieldType == Double.class || fieldType == double.class) {
+            return Double::valueOf;
+        } else if (fieldType == BigDecimal.class) {
+            return value -> CharSequenceParsers.parseDecimal(value, 0, value.length());
+        } else if (fieldType == Date.class) {
+            String pattern = annotation.format().isEmpty() ? DEFAULT_DATE_FORMAT : annotation.format();
+            ThreadLocal<SimpleDateFormat> format = ThreadLocal.withInitial(() -> new SimpleDateFormat(pattern));
+            return value -> format.get().parse(value);
+        } else if (fieldType == Boolean.class || fieldType == boolean.class) {
+            return Boolean::valueOf;
+        }
+        return value -> value;
+    }
+
+    // ============================================================================
+    // 列绑定
+    // ============================================================================
+
+    /**
+     * 字符串到字段值的解析函数
+     */
+    @FunctionalInterface
+    private interface ValueParser {
+        Object parse(String value) throws Exception;
+    }
+
+    /**
+     * 单列的预编译绑定：读取、清洗、默认值、类型转换、写入字段
+     */
+    private interface ColumnBinding {
+
+        /**
+         * 读取并转换列值（构造器模式直接使用）
+         *
+         * @param deduplicator 映射器实例持有的去重缓存（计划中没有 dedupe 列时为 null）
+         */
+        Object read(FieldSet fieldSet, StringDeduplicator deduplicator) throws Exception;
+
+        /**
+         * 读取列值并写入字段
+         */
+        void bind(Object instance, FieldSet fieldSet, StringDeduplicator deduplicator) throws Throwable;
+    }
+
+    /**
+     * 内置类型列
+     */
+    private static final class ParsedColumn implements ColumnBinding {
+
+        private final int index;
+        private final boolean trim;
+        private final boolean toUpperCase;
+        private final boolean toLowerCase;
+        private final String defaultValue;
+        private final ValueParser parser;
+        private final MethodHandle setter;
+
+        ParsedColumn(FileColumn annotation, ValueParser parser, MethodHandle setter) {
+            this.index = annotation.index();
+            this.trim = annotation.trim();
+            this.toUpperCase = annotation.toUpperCase();
+            this.toLowerCase = annotation.toLowerCase();
+            this.defaultValue = annotation.defaultValue().isEmpty() ? null : annotation.defaultValue();
+            this.parser = parser;
+            this.setter = setter;
+        }
+
+        @Override
+        public Object read(FieldSet fieldSet, StringDeduplicator deduplicator) throws Exception {
+            String value = fieldSet.readString(index);
+
+            // 数据清洗
+            if (value != null) {
+                if (trim) {
+                    value = value.trim();
+                }
+                if (toUpperCase) {
+                    value = value.toUpperCase();
+                }
+                if (toLowerCase) {
+                    value = value.toLowerCase();
+                }
+            }
+
+            // 默认值填充
+            if ((value == null || value.isEmpty()) && defaultValue != null) {
+                value = defaultValue;
+            }
+
+            // 类型转换
+            return value == null || value.isEmpty() ? null : parser.parse(value);
+        }
+
+        @Override
+        public void bind(Object instance, FieldSet fieldSet, StringDeduplicator deduplicator) throws Throwable {
+            setter.invokeExact(instance, read(fieldSet, deduplicator));
+        }
+    }
+
+    /**
+     * 去重字符串列
+     */
+    private static final class DedupedStringColumn implements ColumnBinding {
+
+        private final int index;
+        private final int flags;
+        private final String defaultValue;
+        private final MethodHandle setter;
+
+        DedupedStringColumn(FileColumn annotation, MethodHandle setter) {
+            this.index = annotation.index();
+            this.flags = MapperSupport.flagsOf(annotation);
+            this.defaultValue = annotation.defaultValue().isEmpty() ? null : annotation.defaultValue();
+            this.setter = setter;
+        }
+
+        @Override
+        public Object read(FieldSet fieldSet, StringDeduplicator deduplicator) {
+            return MapperSupport.readString(fieldSet, index, flags, defaultValue, deduplicator);
+        }
+
+        @Override
+        public void bind(Object instance, FieldSet fieldSet, StringDeduplicator deduplicator) throws Throwable {
+            setter.invokeExact(instance, read(fieldSet, deduplicator));
+        }
+    }
+
+    /**
+     * 自定义转换器列（{@link FlyweightFieldSet} 上按区间转换）
+     */
+    private static final class ConvertedColumn implements ColumnBinding {
+
+        private final int index;
+        private final int flags;
+        private final String defaultValue;
+        private final RangeConverter<?> converter;
+        private final MethodHandle setter;
+
+        ConvertedColumn(FileColumn annotation, RangeConverter<?> converter, MethodHandle setter) {
+            this.index = annotation.index();
+            this.flags = MapperSupport.flagsOf(annotation);
+            this.defaultValue = annotation.defaultValue().isEmpty() ? null : annotation.defaultValue();
+            this.converter = converter;
+            this.setter = setter;
+        }
+
+        @Override
+        public Object read(FieldSet fieldSet, StringDeduplicator deduplicator) throws Exception {
+            return MapperSupport.convert(fieldSet, index, flags, defaultValue, converter);
+        }
+
+        @Override
+        public void bind(Object instance, FieldSet fieldSet, StringDeduplicator deduplicator) throws Throwable {
+            setter.invokeExact(instance, read(fieldSet, deduplicator));
+        }
+    }
+
+    /**
+     * int 字段 + {@link IntConverter}：按字段写入时不装箱
+     */
+    private static final class IntColumn implements ColumnBinding {
+
+        private final int index;
+        private final int flags;
+        private final String defaultValue;
+        private final IntConverter converter;
+        private final MethodHandle setter;
+
+        IntColumn(FileColumn annotation, IntConverter converter, MethodHandle setter) {
+            this.index = annotation.index();
+            this.flags = MapperSupport.flagsOf(annotation);
+            this.defaultValue = annotation.defaultValue().isEmpty() ? null : annotation.defaultValue();
+            this.converter = converter;
+            this.setter = setter;
+        }
+
+        @Override
+        public Object read(FieldSet fieldSet, StringDeduplicator deduplicator) {
+            return MapperSupport.convertInt(fieldSet, index, flags, defaultValue, converter);
+        }
+
+        @Override
+        public void bind(Object instance, FieldSet fieldSet, StringDeduplicator deduplicator) throws Throwable {
+            setter.invokeExact(instance, MapperSupport.convertInt(fieldSet, index, flags, defaultValue, converter));
+        }
+    }
+
+    /**
+     * long 字段 + {@link LongConverter}：按字段写入时不装箱
+     */
+    private static final class LongColumn implements ColumnBinding {
+
+        private final int index;
+        private final int flags;
+        private final String defaultValue;
+        private final LongConverter converter;
+        private final MethodHandle setter;
+
+        LongColumn(FileColumn annotation, LongConverter converter, MethodHandle setter) {
+            this.index = annotation.index();
+            this.flags = MapperSupport.flagsOf(annotation);
+            this.defaultValue = annotation.defaultValue().isEmpty() ? null : annotation.defaultValue();
+            this.converter = converter;
+            this.setter = setter;
+        }
+
+        @Override
+        public Object read(FieldSet fieldSet, StringDeduplicator deduplicator) {
+            return MapperSupport.convertLong(fieldSet, index, flags, defaultValue, converter);
+        }
+
+        @Override
+        public void bind(Object instance, FieldSet fieldSet, StringDeduplicator deduplicator) throws Throwable {
+            setter.invokeExact(instance, MapperSupport.convertLong(fieldSet, index, flags, defaultValue, converter));
+        }
+    }
+}
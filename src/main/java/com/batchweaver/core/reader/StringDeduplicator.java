@@ -0,0 +1,116 @@
+package com.batchweaver.core.reader;
+
+/**
+ * 低基数字符串去重缓存
+ * <p>
+ * 状态码、机构号、币种等列在一个文件里重复出现上百万次，去重后同一个值只保留一个 String 实例。
+ * 实现为固定大小的开放寻址表（线性探测，最多 {@value #MAX_PROBES} 次），直接以字符区间查找：
+ * 命中时不创建任何对象；探测失败时覆盖首选槽位，因此内存占用有上限，不会随文件增长。
+ * <p>
+ * 哈希值与 {@link String#hashCode()} 一致，比较时先用 String 缓存的 hash 过滤。
+ * 表中只存放不可变的 String，并发访问最多丢失一次写入，不会返回错误的值；
+ * 但按设计每个映射器实例（即每个 Step 的读取器）持有一个独立缓存。
+ */
+public final class StringDeduplicator {
+
+    /**
+     * 默认槽位数
+     */
+    public static final int DEFAULT_CAPACITY = 4096;
+
+    /**
+     * 最大探测次数
+     */
+    private static final int MAX_PROBES = 4;
+
+    /**
+     * 超过该长度的值通常不是低基数列，不进入缓存
+     */
+    private static final int MAX_LENGTH = 64;
+
+    private final String[] table;
+    private final int mask;
+
+    public StringDeduplicator() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * @param capacity 槽位数（向上取整为 2 的幂）
+     */
+    public StringDeduplicator(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must be positive: " + capacity);
+        }
+        int size = Integer.highestOneBit(Math.max(capacity - 1, 1)) << 1;
+        this.table = new String[size];
+        this.mask = size - 1;
+    }
+
+    /**
+     * 按字符区间去重（命中时不创建 String）
+     */
+    public String dedupe(CharSequence source, int start, int end) {
+        int length = end - start;
+        if (length > MAX_LENGTH) {
+            return source.subSequence(start, end).toString();
+        }
+        int hash = 0;
+        for (int i = start; i < end; i++) {
+            hash = 31 * hash + source.charAt(i);
+        }
+        int slot = spread(hash) & mask;
+        for (int probe = 0; probe < MAX_PROBES; probe++) {
+            int index = (slot + probe) & mask;
+            String candidate = table[index];
+            if (candidate == null) {
+                String value = source.subSequence(start, end).toString();
+                table[index] = value;
+                return value;
+            }
+            if (candidate.hashCode() == hash && candidate.length() == length && matches(candidate, source, start)) {
+                return candidate;
+            }
+        }
+        String value = source.subSequence(start, end).toString();
+        table[slot] = value;
+        return value;
+    }
+
+    /**
+     * 对已创建的字符串去重（未命中时缓存该实例本身）
+     */
+    public String dedupe(String value) {
+        if (value == null || value.length() > MAX_LENGTH) {
+            return value;
+        }
+        int hash = value.hashCode();
+        int slot = spread(hash) & mask;
+        for (int probe = 0; probe < MAX_PROBES; probe++) {
+            int index = (slot + probe) & mask;
+            String candidate = table[index];
+            if (candidate == null) {
+                table[index] = value;
+                return value;
+            }
+            if (candidate.hashCode() == hash && candidate.equals(value)) {
+                return candidate;
+            }
+        }
+        table[slot] = value;
+        return value;
+    }
+
+    private static boolean matches(String candidate, CharSequence source, int start) {
+        for (int i = 0; i < candidate.length(); i++) {
+            if (candidate.charAt(i) != source.charAt(start + i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+}
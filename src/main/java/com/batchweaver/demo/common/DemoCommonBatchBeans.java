@@ -8,11 +8,13 @@ import com.batchweaver.core.fileprocess.model.FooterInfo;
 import com.batchweaver.core.fileprocess.model.HeaderInfo;
 import com.batchweaver.core.fileprocess.reader.FooterLineDetector;
 import com.batchweaver.core.fileprocess.reader.HeaderFooterAwareReader;
+import com.batchweaver.core.fileprocess.reader.source.FileChannelLineSource;
+import com.batchweaver.core.fileprocess.reader.source.ReadAheadLineSource;
+import com.batchweaver.core.fileprocess.tokenizer.FastDelimitedLineTokenizer;
 import com.batchweaver.core.reader.AnnotationDrivenFieldSetMapper;
 import com.batchweaver.demo.entity.ChunkUserInput;
 import com.batchweaver.demo.entity.DemoUserInput;
 import org.springframework.batch.item.file.FlatFileParseException;
-import org.springframework.batch.item.file.transform.DelimitedLineTokenizer;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.io.FileSystemResource;
@@ -60,14 +62,14 @@ public class DemoCommonBatchBeans {
         FooterValidator footerValidator = null;
 
         // LineTokenizer：逗号分隔
-        DelimitedLineTokenizer lineTokenizer = new DelimitedLineTokenizer();
+        FastDelimitedLineTokenizer lineTokenizer = new FastDelimitedLineTokenizer();
         lineTokenizer.setDelimiter(",");
 
-        // FieldSetMapper：使用 AnnotationDrivenFieldSetMapper 支持日期格式转换
-        AnnotationDrivenFieldSetMapper<ChunkUserInput> fieldSetMapper = new AnnotationDrivenFieldSetMapper<>(ChunkUserInput.class);
+        // FieldSetMapper：使用 AnnotationDrivenFieldSetMapper 支持日期格式转换（大文件使用生成的字节码映射器）
+        AnnotationDrivenFieldSetMapper<ChunkUserInput> fieldSetMapper = new AnnotationDrivenFieldSetMapper<>(ChunkUserInput.class, true);
 
         // 创建 HeaderFooterAwareReader
-        return new HeaderFooterAwareReader<>(
+        HeaderFooterAwareReader<ChunkUserInput> reader = new HeaderFooterAwareReader<>(
                 resource,
                 headerParser,
                 headerValidator,
@@ -76,6 +78,11 @@ public class DemoCommonBatchBeans {
                 lineTokenizer,
                 fieldSetMapper
         );
+        // 大文件：FileChannel 大窗口读取 + 异步预读（文件 I/O 与写库重叠）
+        reader.setLineSource(new ReadAheadLineSource(new FileChannelLineSource()));
+        // Footer 前置：open() 时先校验文件尾，被截断的文件在写库之前即被拒绝
+        reader.setFooterFirst(true);
+        return reader;
     }
 
 
@@ -120,7 +127,7 @@ public class DemoCommonBatchBeans {
         };
 
         // LineTokenizer：逗号分隔
-        DelimitedLineTokenizer lineTokenizer = new DelimitedLineTokenizer();
+        FastDelimitedLineTokenizer lineTokenizer = new FastDelimitedLineTokenizer();
         lineTokenizer.setDelimiter(",");
         lineTokenizer.setNames("id","name", "age", "email", "birthDate");
 
@@ -188,7 +195,7 @@ public class DemoCommonBatchBeans {
         };
 
         // LineTokenizer：使用 | 分隔符
-        DelimitedLineTokenizer lineTokenizer = new DelimitedLineTokenizer();
+        FastDelimitedLineTokenizer lineTokenizer = new FastDelimitedLineTokenizer();
         lineTokenizer.setDelimiter("|");
         lineTokenizer.setNames("id", "name", "age", "email", "birthDate");
 
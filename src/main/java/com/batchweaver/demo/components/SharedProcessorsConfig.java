@@ -27,10 +27,10 @@ public class SharedProcessorsConfig {
     public ItemProcessor<DemoUserInput, DemoUser> demoUserInputToDemoUserCopyIdProcessor() {
         return input -> {
             DemoUser user = new DemoUser();
-            user.setId(input.getId());
-            user.setName(input.getName());
-            user.setEmail(input.getEmail());
-            user.setBirthDate(input.getBirthDate());
+            user.setId(input.id());
+            user.setName(input.name());
+            user.setEmail(input.email());
+            user.setBirthDate(input.birthDate());
             return user;
         };
     }
@@ -45,9 +45,9 @@ public class SharedProcessorsConfig {
         return input -> {
             DemoUser user = new DemoUser();
             // 不设置 ID，让数据库自动生成
-            user.setName(input.getName());
-            user.setEmail(input.getEmail());
-            user.setBirthDate(input.getBirthDate());
+            user.setName(input.name());
+            user.setEmail(input.email());
+            user.setBirthDate(input.birthDate());
             return user;
         };
     }
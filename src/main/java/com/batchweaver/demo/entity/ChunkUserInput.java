@@ -1,7 +1,6 @@
 package com.batchweaver.demo.entity;
 
 import com.batchweaver.core.annotation.FileColumn;
-import lombok.Data;
 
 import java.util.Date;
 
@@ -9,37 +8,26 @@ import java.util.Date;
  * Demo 用户文件输入 DTO
  * <p>
  * 用于解析包含 age 字段的文件数据，age 字段不写入数据库
+ * <p>
+ * 不可变 record：映射器按文件列一次性调用规范构造器
+ *
+ * @param name      用户姓名，文件列索引: 0
+ * @param age       用户年龄，文件列索引: 1（此字段仅用于文件解析，不写入数据库）
+ * @param email     用户邮箱，文件列索引: 2
+ * @param birthDate 出生日期，文件列索引: 3
  */
-@Data
-public class ChunkUserInput {
-
+public record ChunkUserInput(
 
-    /**
-     * 用户姓名
-     * 文件列索引: 0
-     */
-    @FileColumn(index = 0, name = "userName", trim = true)
-    private String name;
+        @FileColumn(index = 0, name = "userName", trim = true)
+        String name,
 
-    /**
-     * 用户年龄
-     * 文件列索引: 1
-     * 注意：此字段仅用于文件解析，不写入数据库
-     */
-    @FileColumn(index = 1, name = "age")
-    private Integer age;
+        @FileColumn(index = 1, name = "age")
+        Integer age,
 
-    /**
-     * 用户邮箱
-     * 文件列索引: 2
-     */
-    @FileColumn(index = 2, name = "email", trim = true)
-    private String email;
+        @FileColumn(index = 2, name = "email", trim = true)
+        String email,
 
-    /**
-     * 出生日期
-     * 文件列索引: 3
-     */
-    @FileColumn(index = 3, name = "birthDate", format = "yyyy-MM-dd")
-    private Date birthDate;
+        @FileColumn(index = 3, name = "birthDate", format = "yyyy-MM-dd")
+        Date birthDate
+) {
 }
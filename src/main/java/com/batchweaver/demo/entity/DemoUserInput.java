@@ -1,7 +1,6 @@
 package com.batchweaver.demo.entity;
 
 import com.batchweaver.core.annotation.FileColumn;
-import lombok.Data;
 
 import java.util.Date;
 
@@ -9,43 +8,30 @@ import java.util.Date;
  * Demo 用户文件输入 DTO
  * <p>
  * 用于解析包含 age 字段的文件数据，age 字段不写入数据库
+ * <p>
+ * 不可变 record：映射器按文件列一次性调用规范构造器
+ *
+ * @param id        用户ID，文件列索引: 0
+ * @param name      用户姓名，文件列索引: 1
+ * @param age       用户年龄，文件列索引: 2（此字段仅用于文件解析，不写入数据库）
+ * @param email     用户邮箱，文件列索引: 3
+ * @param birthDate 出生日期，文件列索引: 4
  */
-@Data
-public class DemoUserInput {
-
-    /**
-     * 用户ID
-     * 文件列索引: 0
-     */
-    @FileColumn(index = 0, name = "userId")
-    private Integer id;
-
-    /**
-     * 用户姓名
-     * 文件列索引: 1
-     */
-    @FileColumn(index = 1, name = "userName", trim = true)
-    private String name;
-
-    /**
-     * 用户年龄
-     * 文件列索引: 2
-     * 注意：此字段仅用于文件解析，不写入数据库
-     */
-    @FileColumn(index = 2, name = "age")
-    private Integer age;
-
-    /**
-     * 用户邮箱
-     * 文件列索引: 3
-     */
-    @FileColumn(index = 3, name = "email", trim = true)
-    private String email;
-
-    /**
-     * 出生日期
-     * 文件列索引: 4
-     */
-    @FileColumn(index = 4, name = "birthDate", format = "yyyy-MM-dd")
-    private Date birthDate;
+public record DemoUserInput(
+
+        @FileColumn(index = 0, name = "userId")
+        Integer id,
+
+        @FileColumn(index = 1, name = "userName", trim = true)
+        String name,
+
+        @FileColumn(index = 2, name = "age")
+        Integer age,
+
+        @FileColumn(index = 3, name = "email", trim = true)
+        String email,
+
+        @FileColumn(index = 4, name = "birthDate", format = "yyyy-MM-dd")
+        Date birthDate
+) {
 }
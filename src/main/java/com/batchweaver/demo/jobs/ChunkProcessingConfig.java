@@ -36,6 +36,9 @@ import org.springframework.transaction.support.DefaultTransactionDefinition;
  * chunkProcessingStep → recordCountDecider
  * ├─ VALID → Job COMPLETED
  * └─ INVALID → cleanupStep → Step COMPLETED, Job FAILED
+ * <p>
+ * largeFileReader 开启了 Footer 前置模式：缺少 Footer（传输截断）的文件在 open() 时即失败，不会写入任何数据；
+ * 记录数不一致仍由 recordCountDecider 在写库后判定。
  *
  * @author BatchWeaver Team
  * @since 1.0.0
@@ -19,10 +19,8 @@ import org.springframework.batch.core.step.builder.StepBuilder;
 import org.springframework.batch.item.ItemProcessor;
 import org.springframework.batch.item.ItemWriter;
 import com.batchweaver.core.fileprocess.reader.HeaderFooterAwareReader;
-import org.springframework.batch.item.file.FlatFileItemReader;
+import com.batchweaver.core.fileprocess.tokenizer.FastDelimitedLineTokenizer;
 import org.springframework.batch.item.file.FlatFileParseException;
-import org.springframework.batch.item.file.builder.FlatFileItemReaderBuilder;
-import org.springframework.batch.item.file.transform.DelimitedLineTokenizer;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.io.FileSystemResource;
@@ -41,6 +39,8 @@ import java.time.format.DateTimeParseException;
  * - Format1: yyyyMMdd + 纯数字 Footer
  * - Format2: MMddyyyy + R前缀 Footer
  * - Format3: 无头尾
+ * <p>
+ * 输入文件存在同名 .gz / .zip 压缩包时直接流式读取压缩包，无需先解压到磁盘
  */
 @Configuration
 public class FileImportConfig {
@@ -83,7 +83,7 @@ public class FileImportConfig {
             ItemProcessor<ChunkUserInput, DemoUser> demoUserInputToDemoUserNoIdProcessor,
             ItemWriter<DemoUser> db2DemoUserWriter) {
 
-        Resource resource = new FileSystemResource("data/input/format1_users.txt");
+        Resource resource = inputResource("data/input/format1_users.txt");
 
         // Header 解析：yyyyMMdd
         HeaderParser headerParser = line -> {
@@ -113,7 +113,7 @@ public class FileImportConfig {
         };
 
         // LineTokenizer
-        DelimitedLineTokenizer lineTokenizer = new DelimitedLineTokenizer();
+        FastDelimitedLineTokenizer lineTokenizer = new FastDelimitedLineTokenizer();
         lineTokenizer.setDelimiter(",");
         lineTokenizer.setNames("name", "age", "email", "birthDate");
 
@@ -172,7 +172,7 @@ public class FileImportConfig {
             ItemProcessor<DemoUserInput, DemoUser> demoUserInputToDemoUserNoIdProcessor,
             ItemWriter<DemoUser> db2DemoUserWriter) {
 
-        Resource resource = new FileSystemResource("data/input/format2_users.txt");
+        Resource resource = inputResource("data/input/format2_users.txt");
 
         // Header 解析：MMddyyyy
         HeaderParser headerParser = line -> {
@@ -195,7 +195,7 @@ public class FileImportConfig {
         };
 
         // LineTokenizer
-        DelimitedLineTokenizer lineTokenizer = new DelimitedLineTokenizer();
+        FastDelimitedLineTokenizer lineTokenizer = new FastDelimitedLineTokenizer();
         lineTokenizer.setDelimiter(",");
         lineTokenizer.setNames("id","name", "age", "email", "birthDate");
 
@@ -253,23 +253,26 @@ public class FileImportConfig {
             ItemProcessor<ChunkUserInput, DemoUser> demoUserInputToDemoUserNoIdProcessor,
             ItemWriter<DemoUser> db2DemoUserWriter) {
 
-        Resource resource = new FileSystemResource("data/input/format3_users.txt");
+        Resource resource = inputResource("data/input/format3_users.txt");
 
         // LineTokenizer
-        DelimitedLineTokenizer lineTokenizer = new DelimitedLineTokenizer();
+        FastDelimitedLineTokenizer lineTokenizer = new FastDelimitedLineTokenizer();
         lineTokenizer.setDelimiter(",");
         lineTokenizer.setNames("name", "age", "email", "birthDate");
 
         // FieldSetMapper
         AnnotationDrivenFieldSetMapper<ChunkUserInput> fieldSetMapper = new AnnotationDrivenFieldSetMapper<>(ChunkUserInput.class);
 
-        // Reader
-        FlatFileItemReader<ChunkUserInput> reader = new FlatFileItemReaderBuilder<ChunkUserInput>()
-                .name("format3Reader")
-                .resource(resource)
-                .lineTokenizer(lineTokenizer)
-                .fieldSetMapper(fieldSetMapper)
-                .build();
+        // Reader（无头尾）
+        HeaderFooterAwareReader<ChunkUserInput> reader = new HeaderFooterAwareReader<>(
+                resource,
+                null,
+                null,
+                null,
+                null,
+                lineTokenizer,
+                fieldSetMapper
+        );
 
         return new StepBuilder("format3ImportStep", jobRepository)
                 .<ChunkUserInput, DemoUser>chunk(100, tm2)
@@ -298,4 +301,17 @@ public class FileImportConfig {
                 .build();
     }
 
+    /**
+     * 解析输入文件：优先使用同名压缩包（path.gz / path.zip），否则使用原文件
+     */
+    private static Resource inputResource(String path) {
+        for (String suffix : new String[]{".gz", ".zip"}) {
+            Resource compressed = new FileSystemResource(path + suffix);
+            if (compressed.exists()) {
+                return compressed;
+            }
+        }
+        return new FileSystemResource(path);
+    }
+
 }
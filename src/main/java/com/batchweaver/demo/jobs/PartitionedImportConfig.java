@@ -0,0 +1,148 @@
+package com.batchweaver.demo.jobs;
+
+import com.batchweaver.core.fileprocess.function.FooterParser;
+import com.batchweaver.core.fileprocess.function.FooterValidator;
+import com.batchweaver.core.fileprocess.function.HeaderParser;
+import com.batchweaver.core.fileprocess.model.FooterInfo;
+import com.batchweaver.core.fileprocess.model.HeaderInfo;
+import com.batchweaver.core.fileprocess.partition.FooterReconcilingStepExecutionAggregator;
+import com.batchweaver.core.fileprocess.partition.LineAlignedFilePartitioner;
+import com.batchweaver.core.fileprocess.reader.HeaderFooterAwareReader;
+import com.batchweaver.core.fileprocess.reader.source.FileChannelLineSource;
+import com.batchweaver.core.fileprocess.tokenizer.FastDelimitedLineTokenizer;
+import com.batchweaver.core.reader.AnnotationDrivenFieldSetMapper;
+import com.batchweaver.demo.entity.ChunkUserInput;
+import com.batchweaver.demo.entity.DemoUser;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.launch.support.RunIdIncrementer;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.item.ItemProcessor;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Job6: 单文件分区并行导入配置
+ * <p>
+ * 测试目的：验证单个大文件按字节范围分区后并行导入
+ * 文件格式：yyyyMMdd + 数据行 + count
+ * <p>
+ * 工作流：
+ * partitionedImportMasterStep（按行边界切分 large_users.txt）
+ * ├─ partitionedImportWorkerStep:partition0（含 Header）
+ * ├─ ...
+ * └─ partitionedImportWorkerStep:partitionN（含 Footer）
+ * → Master 汇总各分区记录数后校验 Footer
+ *
+ * @author BatchWeaver Team
+ * @since 1.0.0
+ */
+@Configuration
+public class PartitionedImportConfig {
+
+    private static final String INPUT_FILE = "data/input/large_users.txt";
+
+    /**
+     * 分区导入 Job
+     */
+    @Bean
+    public Job partitionedImportJob(JobRepository jobRepository, Step partitionedImportMasterStep) {
+        return new JobBuilder("partitionedImportJob", jobRepository)
+                .incrementer(new RunIdIncrementer())
+                .start(partitionedImportMasterStep)
+                .build();
+    }
+
+    /**
+     * Master Step：按行边界切分文件，并行执行 Worker Step，汇总后校验 Footer
+     */
+    @Bean
+    public Step partitionedImportMasterStep(JobRepository jobRepository, Step partitionedImportWorkerStep) {
+        // Footer 校验器：全部分区记录数之和必须等于 Footer 声明的数量
+        FooterValidator footerValidator = (footer, actual) -> {
+            if (footer.getCount() != actual) {
+                throw new IllegalStateException("Partitioned import count mismatch: expected=" + footer.getCount() + ", actual=" + actual);
+            }
+        };
+
+        int gridSize = Runtime.getRuntime().availableProcessors();
+        SimpleAsyncTaskExecutor taskExecutor = new SimpleAsyncTaskExecutor("partitioned-import-");
+        taskExecutor.setConcurrencyLimit(gridSize);
+
+        return new StepBuilder("partitionedImportMasterStep", jobRepository)
+                .partitioner("partitionedImportWorkerStep", new LineAlignedFilePartitioner(new FileSystemResource(INPUT_FILE)))
+                .step(partitionedImportWorkerStep)
+                .gridSize(gridSize)
+                .taskExecutor(taskExecutor)
+                .aggregator(new FooterReconcilingStepExecutionAggregator(footerValidator, jobRepository))
+                .build();
+    }
+
+    /**
+     * Worker Step：每个分区独立的 Reader 实例（@StepScope）
+     */
+    @Bean
+    public Step partitionedImportWorkerStep(
+            JobRepository jobRepository,
+            @Qualifier("tm2") PlatformTransactionManager tm2,
+            HeaderFooterAwareReader<ChunkUserInput> partitionedFileReader,
+            ItemProcessor<ChunkUserInput, DemoUser> demoUserInputToDemoUserNoIdProcessor,
+            ItemWriter<DemoUser> db2DemoUserWriter) {
+
+        return new StepBuilder("partitionedImportWorkerStep", jobRepository)
+                .<ChunkUserInput, DemoUser>chunk(1000, tm2)
+                .reader(partitionedFileReader)
+                .processor(demoUserInputToDemoUserNoIdProcessor)
+                .writer(db2DemoUserWriter)
+                .build();
+    }
+
+    /**
+     * 分区 Reader：字节范围由 ExecutionContext 在 open() 时传入
+     */
+    @Bean
+    @StepScope
+    public HeaderFooterAwareReader<ChunkUserInput> partitionedFileReader() {
+        Resource resource = new FileSystemResource(INPUT_FILE);
+
+        // Header 解析器：yyyyMMdd（仅第一个分区）
+        HeaderParser headerParser = line -> {
+            LocalDate date = LocalDate.parse(line.trim(), DateTimeFormatter.ofPattern("yyyyMMdd"));
+            return new HeaderInfo(date);
+        };
+
+        // Footer 解析器：纯数字（仅最后一个分区）
+        FooterParser footerParser = line -> {
+            long count = Long.parseLong(line.trim());
+            return new FooterInfo(count);
+        };
+
+        // LineTokenizer：逗号分隔
+        FastDelimitedLineTokenizer lineTokenizer = new FastDelimitedLineTokenizer();
+        lineTokenizer.setDelimiter(",");
+
+        HeaderFooterAwareReader<ChunkUserInput> reader = new HeaderFooterAwareReader<>(
+                resource,
+                headerParser,
+                null,
+                footerParser,
+                null,  // Footer 校验由 Master Step 汇总后执行
+                lineTokenizer,
+                new AnnotationDrivenFieldSetMapper<>(ChunkUserInput.class, true)
+        );
+        reader.setLineSource(new FileChannelLineSource());
+        return reader;
+    }
+}
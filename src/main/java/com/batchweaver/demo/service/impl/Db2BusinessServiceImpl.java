@@ -1,11 +1,10 @@
 package com.batchweaver.demo.service.impl;
 
+import com.batchweaver.core.fileprocess.writer.PreparedStatementBinder;
 import com.batchweaver.demo.entity.DemoUser;
 import com.batchweaver.demo.service.Db2BusinessService;
 import org.springframework.beans.factory.annotation.Qualifier;
-import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
-import org.springframework.jdbc.core.namedparam.SqlParameterSource;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
@@ -21,6 +20,12 @@ import java.util.List;
 @Service
 public class Db2BusinessServiceImpl implements Db2BusinessService {
 
+    /**
+     * 插入语句只解析一次，逐行按位置参数绑定（不创建 MapSqlParameterSource）
+     */
+    private static final PreparedStatementBinder<DemoUser> INSERT_USER = PreparedStatementBinder.of(DemoUser.class,
+            "INSERT INTO DEMO_USER (name, email, birth_date) VALUES (:name, :email, :birthDate)");
+
     private final NamedParameterJdbcTemplate namedJdbcTemplate2;
 
     public Db2BusinessServiceImpl(@Qualifier("namedJdbcTemplate2") NamedParameterJdbcTemplate namedJdbcTemplate2) {
@@ -35,17 +40,7 @@ public class Db2BusinessServiceImpl implements Db2BusinessService {
     @Override
     @Transactional(transactionManager = "tm2", propagation = Propagation.REQUIRED)
     public void batchInsertUsers(List<DemoUser> users) {
-        String sql = "INSERT INTO DEMO_USER (name, email, birth_date) " +
-                "VALUES (:name, :email, :birthDate)";
-
-        SqlParameterSource[] batchParams = users.stream()
-                .map(user -> new MapSqlParameterSource()
-                        .addValue("name", user.getName())
-                        .addValue("email", user.getEmail())
-                        .addValue("birthDate", user.getBirthDate()))
-                .toArray(SqlParameterSource[]::new);
-
-        namedJdbcTemplate2.batchUpdate(sql, batchParams);
+        namedJdbcTemplate2.getJdbcTemplate().batchUpdate(INSERT_USER.getSql(), INSERT_USER.batchSetter(users));
     }
 
     /**
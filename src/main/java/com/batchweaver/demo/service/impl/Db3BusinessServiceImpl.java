@@ -1,11 +1,10 @@
 package com.batchweaver.demo.service.impl;
 
+import com.batchweaver.core.fileprocess.writer.PreparedStatementBinder;
 import com.batchweaver.demo.entity.DemoUser;
 import com.batchweaver.demo.service.Db3BusinessService;
 import org.springframework.beans.factory.annotation.Qualifier;
-import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
-import org.springframework.jdbc.core.namedparam.SqlParameterSource;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
@@ -20,6 +19,9 @@ import java.util.List;
 @Service
 public class Db3BusinessServiceImpl implements Db3BusinessService {
 
+    private static final PreparedStatementBinder<DemoUser> INSERT_USER = PreparedStatementBinder.of(DemoUser.class,
+            "INSERT INTO DEMO_USER (name, email, birth_date) VALUES (:name, :email, :birthDate)");
+
     private final NamedParameterJdbcTemplate namedJdbcTemplate3;
 
     public Db3BusinessServiceImpl(@Qualifier("namedJdbcTemplate3") NamedParameterJdbcTemplate namedJdbcTemplate3) {
@@ -29,18 +31,7 @@ public class Db3BusinessServiceImpl implements Db3BusinessService {
     @Override
     @Transactional(transactionManager = "tm3", propagation = Propagation.REQUIRED)
     public void batchInsertUsers(List<DemoUser> users) {
-        String sql = "INSERT INTO DEMO_USER ( name, email, birth_date) " +
-                "VALUES ( :name, :email, :birthDate)";
-
-        SqlParameterSource[] batchParams = users.stream()
-                .map(user -> new MapSqlParameterSource()
-                        .addValue("id", user.getId())
-                        .addValue("name", user.getName())
-                        .addValue("email", user.getEmail())
-                        .addValue("birthDate", user.getBirthDate()))
-                .toArray(SqlParameterSource[]::new);
-
-        namedJdbcTemplate3.batchUpdate(sql, batchParams);
+        namedJdbcTemplate3.getJdbcTemplate().batchUpdate(INSERT_USER.getSql(), INSERT_USER.batchSetter(users));
     }
 
     /**
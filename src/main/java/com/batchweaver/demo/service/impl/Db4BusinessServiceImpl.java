@@ -1,11 +1,10 @@
 package com.batchweaver.demo.service.impl;
 
+import com.batchweaver.core.fileprocess.writer.PreparedStatementBinder;
 import com.batchweaver.demo.entity.DemoUser;
 import com.batchweaver.demo.service.Db4BusinessService;
 import org.springframework.beans.factory.annotation.Qualifier;
-import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
-import org.springframework.jdbc.core.namedparam.SqlParameterSource;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
@@ -20,6 +19,9 @@ import java.util.List;
 @Service
 public class Db4BusinessServiceImpl implements Db4BusinessService {
 
+    private static final PreparedStatementBinder<DemoUser> INSERT_USER = PreparedStatementBinder.of(DemoUser.class,
+            "INSERT INTO DEMO_USER (name, email, birth_date) VALUES (:name, :email, :birthDate)");
+
     private final NamedParameterJdbcTemplate namedJdbcTemplate4;
 
     public Db4BusinessServiceImpl(@Qualifier("namedJdbcTemplate4") NamedParameterJdbcTemplate namedJdbcTemplate4) {
@@ -29,18 +31,7 @@ public class Db4BusinessServiceImpl implements Db4BusinessService {
     @Override
     @Transactional(transactionManager = "tm4", propagation = Propagation.REQUIRED)
     public void batchInsertUsers(List<DemoUser> users) {
-        String sql = "INSERT INTO DEMO_USER ( name, email, birth_date) " +
-                "VALUES ( :name, :email, :birthDate)";
-
-        SqlParameterSource[] batchParams = users.stream()
-                .map(user -> new MapSqlParameterSource()
-                        .addValue("id", user.getId())
-                        .addValue("name", user.getName())
-                        .addValue("email", user.getEmail())
-                        .addValue("birthDate", user.getBirthDate()))
-                .toArray(SqlParameterSource[]::new);
-
-        namedJdbcTemplate4.batchUpdate(sql, batchParams);
+        namedJdbcTemplate4.getJdbcTemplate().batchUpdate(INSERT_USER.getSql(), INSERT_USER.batchSetter(users));
     }
 
     /**